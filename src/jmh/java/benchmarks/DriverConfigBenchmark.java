@@ -0,0 +1,44 @@
+package benchmarks;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of DriverConfig getters, which look up and parse the property on every call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DriverConfigBenchmark {
+
+    @Benchmark
+    public String getBrowser() {
+        return DriverConfig.getBrowser();
+    }
+
+    @Benchmark
+    public Duration getExplicitWaitTimeout() {
+        return DriverConfig.getExplicitWaitTimeout();
+    }
+
+    @Benchmark
+    public String getPageLoadStrategy() {
+        return DriverConfig.getPageLoadStrategy();
+    }
+
+    @Benchmark
+    public boolean isEventDrivenWait() {
+        return DriverConfig.isEventDrivenWait();
+    }
+}
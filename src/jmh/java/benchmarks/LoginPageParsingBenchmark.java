@@ -0,0 +1,66 @@
+package benchmarks;
+
+import com.epam.training.alexandru_cruceat.pages.LoginPage;
+import com.epam.training.alexandru_cruceat.pages.PageLocators;
+import com.epam.training.alexandru_cruceat.utils.DriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * String splitting and regex handling in LoginPage when reading the test credentials from the page
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginPageParsingBenchmark {
+    private static final String CREDENTIALS = """
+            Accepted usernames are:
+            standard_user
+            locked_out_user
+            problem_user
+            performance_glitch_user
+            error_user
+            visual_user""";
+    private static final String PASSWORD = "Password for all users:\nsecret_sauce";
+
+    private LoginPage loginPage;
+
+    @Setup
+    public void createPage() {
+        // Keyed on the locators the page is bound with, which the annotation processor may have rewritten to CSS
+        DriverManager.setDriver(new StubWebDriver()
+                .withElement(PageLocators.of(LoginPage.class, "loginCredentials"), CREDENTIALS)
+                .withElement(PageLocators.of(LoginPage.class, "loginPassword"), PASSWORD));
+        loginPage = new LoginPage();
+    }
+
+    @TearDown
+    public void unbindDriver() {
+        DriverManager.releaseDriver();
+    }
+
+    @Benchmark
+    public List<String> getValidUsernames() {
+        return loginPage.getValidUsernames();
+    }
+
+    @Benchmark
+    public String getValidPassword() {
+        return loginPage.getValidPassword();
+    }
+}
@@ -0,0 +1,86 @@
+package benchmarks;
+
+import com.epam.training.alexandru_cruceat.pages.InventoryPage;
+import com.epam.training.alexandru_cruceat.pages.LoginPage;
+import com.epam.training.alexandru_cruceat.utils.DriverManager;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating page objects. Pages are bound by their generated binders and ElementCache;
+ * initElementsOnly measures PageFactory.initElements reflection on its own for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageObjectBenchmark {
+    private StubWebDriver driver;
+
+    @Setup
+    public void bindDriver() {
+        driver = new StubWebDriver();
+        DriverManager.setDriver(driver);
+    }
+
+    @TearDown
+    public void unbindDriver() {
+        DriverManager.releaseDriver();
+    }
+
+    @Benchmark
+    public LoginPage createLoginPage() {
+        return new LoginPage();
+    }
+
+    @Benchmark
+    public InventoryPage createInventoryPage() {
+        return new InventoryPage();
+    }
+
+    @Benchmark
+    public SixFieldPage initElementsOnly() {
+        SixFieldPage page = new SixFieldPage();
+        PageFactory.initElements(driver, page);
+        return page;
+    }
+
+    /**
+     * Plain object with as many @FindBy fields as LoginPage, without the BasePage constructor
+     */
+    public static class SixFieldPage {
+        @FindBy(xpath = "//input[@data-test='username']")
+        WebElement username;
+
+        @FindBy(xpath = "//input[@data-test='password']")
+        WebElement password;
+
+        @FindBy(xpath = "//input[@data-test='login-button']")
+        WebElement loginButton;
+
+        @FindBy(xpath = "//h3[@data-test='error']")
+        WebElement error;
+
+        @FindBy(xpath = "//div[@data-test='login-credentials']")
+        WebElement credentials;
+
+        @FindBy(xpath = "//div[@data-test='login-password']")
+        WebElement passwordHint;
+    }
+}
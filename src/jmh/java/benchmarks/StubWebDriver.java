@@ -0,0 +1,97 @@
+package benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory WebDriver that answers element lookups from a fixed map, so benchmarks measure
+ * framework code without a browser or HTTP round-trips
+ */
+public class StubWebDriver implements WebDriver {
+    private static final String WINDOW_HANDLE = "stub-window";
+
+    private final Map<String, StubWebElement> elementsByLocator = new HashMap<>();
+    private final StubWebElement defaultElement = new StubWebElement("");
+
+    /**
+     * Serve an element with the given text for a locator
+     * @param locator locator used by the page object
+     * @param text text returned by getText
+     * @return this driver
+     */
+    public StubWebDriver withElement(By locator, String text) {
+        elementsByLocator.put(locator.toString(), new StubWebElement(text));
+        return this;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return elementsByLocator.getOrDefault(by.toString(), defaultElement);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return List.of(findElement(by));
+    }
+
+    @Override
+    public void get(String url) {
+        // Navigation is a no-op
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "Stub";
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+
+    @Override
+    public void quit() {
+        // Nothing to quit
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of(WINDOW_HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not supported by the stub driver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not supported by the stub driver");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not supported by the stub driver");
+    }
+}
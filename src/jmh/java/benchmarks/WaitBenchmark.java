@@ -0,0 +1,57 @@
+package benchmarks;
+
+import com.epam.training.alexandru_cruceat.utils.WaitUtils;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of an explicit wait whose condition already holds: WebDriverWait construction and
+ * evaluation versus WaitUtils. The stub driver is not a JavascriptExecutor, so WaitUtils polls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitBenchmark {
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    private StubWebDriver driver;
+    private WebElement element;
+
+    @Setup
+    public void createDriver() {
+        driver = new StubWebDriver();
+        element = new StubWebElement("ready");
+    }
+
+    @Benchmark
+    public WebDriverWait createWebDriverWait() {
+        return new WebDriverWait(driver, TIMEOUT);
+    }
+
+    @Benchmark
+    public WebElement webDriverWaitVisible() {
+        return new WebDriverWait(driver, TIMEOUT).until(ExpectedConditions.visibilityOf(element));
+    }
+
+    @Benchmark
+    public WebElement waitUtilsVisible() {
+        return WaitUtils.waitForElementVisible(driver, element);
+    }
+}
@@ -3,5 +3,7 @@ package com.epam.training.alexandru_cruceat.Constants;
 public class Constants {
     public static final String USERNAME_REQUIRED_ERROR = "Username is required";
     public static final String PASSWORD_REQUIRED_ERROR = "Password is required";
+    public static final String INVALID_CREDENTIALS_ERROR = "Username and password do not match any user in this service";
+    public static final String LOCKED_OUT_ERROR = "Sorry, this user has been locked out.";
     public static final String DASHBOARD_TITLE = "Swag Labs";
 }
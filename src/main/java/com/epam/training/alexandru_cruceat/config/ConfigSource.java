@@ -0,0 +1,138 @@
+package com.epam.training.alexandru_cruceat.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Layered configuration values with typed readers.
+ * Later layers win: config.properties, then environment variables (e.g. CONFIG_IMPLICIT_WAIT_TIMEOUT for
+ * implicit.wait.timeout), then -D system properties, then per-thread overrides.
+ * Invalid values are collected instead of failing on the first one, so every problem is reported at once.
+ */
+final class ConfigSource {
+    private static final String ENVIRONMENT_PREFIX = "CONFIG_";
+
+    private final List<Function<String, String>> layers;
+    private final Set<String> checkedKeys;
+    private final Set<String> readKeys = new HashSet<>();
+    private final List<String> errors = new ArrayList<>();
+
+    /**
+     * @param layers value lookups, highest priority first
+     * @param checkedKeys keys that must be known, i.e. keys from the file and from overrides
+     */
+    private ConfigSource(List<Function<String, String>> layers, Set<String> checkedKeys) {
+        this.layers = layers;
+        this.checkedKeys = checkedKeys;
+    }
+
+    /**
+     * Layer a properties file with the environment and system properties
+     * @param fileProperties values from config.properties
+     * @param environment environment variables
+     * @param systemProperties JVM system properties
+     * @return layered source
+     */
+    static ConfigSource layered(Properties fileProperties, Map<String, String> environment, Properties systemProperties) {
+        return new ConfigSource(List.of(
+                systemProperties::getProperty,
+                key -> environment.get(toEnvironmentName(key)),
+                fileProperties::getProperty), fileProperties.stringPropertyNames());
+    }
+
+    /**
+     * Create a source with extra values on top of this one, e.g. per-thread overrides
+     * @param overrides values that win over every layer of this source
+     * @return new source
+     */
+    ConfigSource with(Map<String, String> overrides) {
+        List<Function<String, String>> merged = new ArrayList<>();
+        merged.add(Map.copyOf(overrides)::get);
+        merged.addAll(layers);
+        Set<String> keys = new HashSet<>(checkedKeys);
+        keys.addAll(overrides.keySet());
+        return new ConfigSource(List.copyOf(merged), Set.copyOf(keys));
+    }
+
+    static String toEnvironmentName(String key) {
+        return ENVIRONMENT_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_');
+    }
+
+    String string(String key, String defaultValue) {
+        readKeys.add(key);
+        for (Function<String, String> layer : layers) {
+            String value = layer.apply(key);
+            if (value != null) {
+                return value.isBlank() ? defaultValue : value.trim();
+            }
+        }
+        return defaultValue;
+    }
+
+    boolean bool(String key, boolean defaultValue) {
+        String value = string(key, String.valueOf(defaultValue)).toLowerCase(Locale.ROOT);
+        if (!value.equals("true") && !value.equals("false")) {
+            errors.add(key + "='" + value + "' is not true or false");
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    int integer(String key, int defaultValue, int min) {
+        String value = string(key, String.valueOf(defaultValue));
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        errors.add(key + "='" + value + "' is not an integer >= " + min);
+        return defaultValue;
+    }
+
+    Duration seconds(String key, Duration defaultValue) {
+        return Duration.ofSeconds(integer(key, (int) defaultValue.toSeconds(), 1));
+    }
+
+    String oneOf(String key, String defaultValue, List<String> allowed) {
+        String value = string(key, defaultValue).toLowerCase(Locale.ROOT);
+        if (!allowed.contains(value)) {
+            errors.add(key + "='" + value + "' is not one of " + allowed);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    List<String> list(String key, String defaultValue) {
+        return Arrays.stream(string(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Fail with every invalid value found while reading
+     * @throws IllegalStateException if any value was invalid
+     */
+    void validate() {
+        List<String> problems = new ArrayList<>(errors);
+        checkedKeys.stream()
+                .filter(key -> !readKeys.contains(key))
+                .sorted()
+                .forEach(key -> problems.add(key + " is not a known configuration key"));
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration:" + System.lineSeparator() + "  "
+                    + String.join(System.lineSeparator() + "  ", problems));
+        }
+    }
+}
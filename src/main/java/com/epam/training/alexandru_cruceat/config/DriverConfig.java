@@ -1,29 +1,44 @@
 package com.epam.training.alexandru_cruceat.config;
 
+import com.epam.training.alexandru_cruceat.server.LocalAppServer;
+import com.epam.training.alexandru_cruceat.utils.HostResources;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
- * Configuration for WebDriver settings
+ * Configuration for WebDriver settings.
+ * Values are parsed and validated once into a {@link FrameworkConfig}; getters are plain field reads.
+ * A thread can run with its own overrides, e.g. a different browser for one worker.
  */
 public final class DriverConfig {
     private static final Logger logger = LoggerFactory.getLogger(DriverConfig.class);
-    private static final Properties properties = new Properties();
 
-    private static final String DEFAULT_BROWSER = "firefox";
-    private static final Duration DEFAULT_IMPLICIT_WAIT_TIMEOUT = Duration.ofSeconds(10);
-    private static final Duration DEFAULT_EXPLICIT_WAIT_TIMEOUT = Duration.ofSeconds(15);
-    private static final Duration DEFAULT_PAGE_LOAD_TIMEOUT = Duration.ofSeconds(30);
-    private static final String DEFAULT_IS_HEADLESS = "false";
     public static final String DEFAULT_BROWSER_WINDOW_MAXIMIZE = "true";
-    public static final String BASE_URL = "https://www.saucedemo.com/";
+    public static final String BASE_URL = FrameworkConfig.BASE_URL;
+    public static final String LOCAL_BASE_URL = "local";
+
+    private static final ConfigSource source = ConfigSource.layered(loadFile(), System.getenv(), System.getProperties());
+    private static final FrameworkConfig global = FrameworkConfig.load(source);
+    private static final ThreadLocal<FrameworkConfig> threadOverrides = new ThreadLocal<>();
+    private static volatile boolean overridesInUse;
 
     static {
+        logger.info("Loaded configuration: {}", global);
+    }
+
+    private DriverConfig() {
+        // Private constructor to prevent instantiation
+    }
+
+    private static Properties loadFile() {
+        Properties properties = new Properties();
         try (InputStream input = DriverConfig.class.getClassLoader().getResourceAsStream("config.properties")) {
             if (input == null) {
                 logger.warn("config.properties file not found, using default values");
@@ -34,6 +49,45 @@ public final class DriverConfig {
         } catch (IOException e) {
             logger.error("Error loading config.properties", e);
         }
+        return properties;
+    }
+
+    /**
+     * Get the configuration in effect for the current thread
+     * @return configuration snapshot
+     */
+    public static FrameworkConfig get() {
+        if (!overridesInUse) {
+            return global;
+        }
+        FrameworkConfig overridden = threadOverrides.get();
+        return overridden != null ? overridden : global;
+    }
+
+    /**
+     * Run the current thread with some settings overridden, e.g. browser or headless for one worker.
+     * The overrides are validated like the rest of the configuration.
+     * @param overrides values keyed like config.properties
+     * @throws IllegalStateException if an override is invalid or unknown
+     */
+    public static void setThreadOverrides(Map<String, String> overrides) {
+        threadOverrides.set(FrameworkConfig.load(source.with(overrides)));
+        overridesInUse = true;
+    }
+
+    /**
+     * Check if the current thread runs with overrides
+     * @return true if overrides were set for this thread
+     */
+    public static boolean hasThreadOverrides() {
+        return overridesInUse && threadOverrides.get() != null;
+    }
+
+    /**
+     * Go back to the global configuration on the current thread
+     */
+    public static void clearThreadOverrides() {
+        threadOverrides.remove();
     }
 
     /**
@@ -41,7 +95,7 @@ public final class DriverConfig {
      * @return browser name
      */
     public static String getBrowser() {
-        return properties.getProperty("browser", DEFAULT_BROWSER);
+        return get().browser();
     }
 
     /**
@@ -49,16 +103,7 @@ public final class DriverConfig {
      * @return timeout in seconds
      */
     public static Duration getImplicitWaitTimeout() {
-        try {
-            return Duration.ofSeconds(
-                    Long.parseLong(
-                            properties.getProperty("implicit.wait.timeout", String.valueOf(DEFAULT_IMPLICIT_WAIT_TIMEOUT)
-                            )
-                    ));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid implicit wait timeout in config, using default", e);
-            return DEFAULT_IMPLICIT_WAIT_TIMEOUT;
-        }
+        return get().implicitWaitTimeout();
     }
 
     /**
@@ -66,16 +111,7 @@ public final class DriverConfig {
      * @return timeout in seconds
      */
     public static Duration getExplicitWaitTimeout() {
-        try {
-            return Duration.ofSeconds(
-                    Long.parseLong(
-                            properties.getProperty("explicit.wait.timeout", String.valueOf(DEFAULT_EXPLICIT_WAIT_TIMEOUT)
-                            )
-                    ));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid explicit wait timeout in config, using default", e);
-            return DEFAULT_EXPLICIT_WAIT_TIMEOUT;
-        }
+        return get().explicitWaitTimeout();
     }
 
     /**
@@ -83,16 +119,16 @@ public final class DriverConfig {
      * @return timeout in seconds
      */
     public static Duration getPageLoadTimeout() {
-        try {
-            return Duration.ofSeconds(
-                    Long.parseLong(
-                            properties.getProperty("page.load.timeout", String.valueOf(DEFAULT_PAGE_LOAD_TIMEOUT)
-                            )
-                    ));
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid page load timeout in config, using default", e);
-            return DEFAULT_PAGE_LOAD_TIMEOUT;
-        }
+        return get().pageLoadTimeout();
+    }
+
+    /**
+     * Get page load strategy: normal waits for all subresources, eager for DOMContentLoaded,
+     * none returns right after navigation starts
+     * @return page load strategy
+     */
+    public static String getPageLoadStrategy() {
+        return get().pageLoadStrategy();
     }
 
     /**
@@ -100,7 +136,7 @@ public final class DriverConfig {
      * @return true if headless mode is enabled
      */
     public static boolean isHeadless() {
-        return Boolean.parseBoolean(properties.getProperty("headless", DEFAULT_IS_HEADLESS));
+        return get().headless();
     }
 
     /**
@@ -108,15 +144,323 @@ public final class DriverConfig {
      * @return true if browser window should be maximized
      */
     public static boolean shouldMaximizeWindow() {
-        return Boolean.parseBoolean(properties.getProperty("browser.window.maximize", DEFAULT_BROWSER_WINDOW_MAXIMIZE));
+        return get().maximizeWindow();
     }
 
     /**
-     * Get base URL from configuration or use default
+     * Get base URL from configuration or use default.
+     * The value "local" starts the embedded stand-in server and returns its URL.
      * @return base URL
      */
     public static String getBaseUrl() {
-        return properties.getProperty("base.url", BASE_URL);
+        String baseUrl = get().baseUrl();
+        return LOCAL_BASE_URL.equalsIgnoreCase(baseUrl) ? LocalAppServer.getInstance().getBaseUrl() : baseUrl;
+    }
+
+    /**
+     * Get port of the local stand-in server, 0 picks a free port
+     * @return port number
+     */
+    public static int getLocalServerPort() {
+        return get().localServerPort();
+    }
+
+    /**
+     * Get classpath directory holding the recorded application snapshot
+     * @return classpath directory
+     */
+    public static String getLocalServerSnapshot() {
+        return get().localServerSnapshot();
+    }
+
+    /**
+     * Check if the local server should record a fresh snapshot before serving
+     * @return true if record mode is on
+     */
+    public static boolean isLocalServerRecordMode() {
+        return get().localServerRecordMode();
+    }
+
+    /**
+     * Get URL of the live application recorded in record mode
+     * @return source URL
+     */
+    public static String getLocalServerRecordSource() {
+        return get().localServerRecordSource();
+    }
+
+    /**
+     * Get directory the snapshot is written to in record mode
+     * @return directory path
+     */
+    public static String getLocalServerRecordDir() {
+        return get().localServerRecordDir();
+    }
+
+    /**
+     * Check if WebDriver sessions should be pooled and reused between tests
+     * @return true if session pooling is enabled
+     */
+    public static boolean isDriverPoolEnabled() {
+        return get().driverPoolEnabled();
+    }
+
+    /**
+     * Get maximum number of live sessions per browser type.
+     * Unless set, it is the number of browsers this JVM's share of the machine can run, like the test thread pool.
+     * @return pool size
+     */
+    public static int getDriverPoolMaxSize() {
+        int configured = get().driverPoolMaxSize();
+        return configured > 0 ? configured : HostResources.recommendedParallelism(getBrowser(),
+                getAdmissionMemoryReserveMb() * 1024L * 1024L, getTestForks());
+    }
+
+    /**
+     * Check if pooled sessions should be started ahead of demand
+     * @return true if prefetching is enabled
+     */
+    public static boolean isDriverPrefetchEnabled() {
+        return get().driverPrefetchEnabled();
+    }
+
+    /**
+     * Check if sessions should be created on shared, long-lived driver service processes
+     * @return true if driver services are shared
+     */
+    public static boolean isDriverServiceShared() {
+        return get().driverServiceShared();
+    }
+
+    /**
+     * Check if opening sessions should wait while the machine is short of memory or overloaded
+     * @return true if session admission control is enabled
+     */
+    public static boolean isAdmissionControlEnabled() {
+        return get().admissionControlEnabled();
+    }
+
+    /**
+     * Get memory to leave free for the JVM and the system when sizing parallelism and admitting sessions
+     * @return reserved memory in megabytes
+     */
+    public static int getAdmissionMemoryReserveMb() {
+        return get().admissionMemoryReserveMb();
+    }
+
+    /**
+     * Get the number of Surefire forks sharing the machine
+     * @return forks, 1 outside Surefire
+     */
+    public static int getTestForks() {
+        return get().testForks();
+    }
+
+    /**
+     * Check if WebDriver command, page method and wait latencies should be recorded
+     * @return true if latency metrics are enabled
+     */
+    public static boolean isMetricsEnabled() {
+        return get().metricsEnabled();
+    }
+
+    /**
+     * Check if latency series should be kept per test and thread instead of merged per name at the end of each test
+     * @return true if the per-test breakdown is enabled
+     */
+    public static boolean isMetricsPerTest() {
+        return get().metricsPerTest();
+    }
+
+    /**
+     * Get where browser sessions are created: local drivers or remote Selenium endpoints
+     * @return "local" or "remote"
+     */
+    public static String getDriverMode() {
+        return get().remoteMode() ? "remote" : "local";
+    }
+
+    /**
+     * Check if browser sessions are created on remote Selenium Grid or standalone servers
+     * @return true in remote mode
+     */
+    public static boolean isRemoteMode() {
+        return get().remoteMode();
+    }
+
+    /**
+     * Get the Selenium Grid / standalone endpoints used in remote mode
+     * @return endpoint URLs
+     */
+    public static List<String> getRemoteNodes() {
+        return get().remoteNodes();
+    }
+
+    /**
+     * Get how long to keep retrying while every remote node is saturated
+     * @return remote session timeout
+     */
+    public static Duration getRemoteSessionTimeout() {
+        return get().remoteSessionTimeout();
+    }
+
+    /**
+     * Get number of tests a pooled session may serve before it is recycled
+     * @return maximum uses per session
+     */
+    public static int getDriverPoolMaxUses() {
+        return get().driverPoolMaxUses();
+    }
+
+    /**
+     * Get how long a session may sit idle in the pool before it is evicted
+     * @return maximum idle time
+     */
+    public static Duration getDriverPoolMaxIdle() {
+        return get().driverPoolMaxIdle();
+    }
+
+    /**
+     * Check if explicit waits should be resolved in the browser instead of by polling
+     * @return true if wait strategy is "event"
+     */
+    public static boolean isEventDrivenWait() {
+        return get().eventDrivenWait();
+    }
+
+    /**
+     * Check if forms should be filled with one script call instead of keystrokes
+     * @return true if form fill mode is "fast"
+     */
+    public static boolean isFastFormFill() {
+        return get().fastFormFill();
+    }
+
+    /**
+     * Check if pages should reuse resolved element handles until they navigate or go stale
+     * @return true if the element cache is enabled
+     */
+    public static boolean isElementCacheEnabled() {
+        return get().elementCacheEnabled();
+    }
+
+    /**
+     * Check if a screenshot, the DOM and the browser console should be saved when a test fails
+     * @return true if failure artifacts are enabled
+     */
+    public static boolean isArtifactsEnabled() {
+        return get().artifactsEnabled();
+    }
+
+    /**
+     * Get the maximum size of all failure artifacts written in one run
+     * @return size limit in megabytes
+     */
+    public static int getArtifactsMaxTotalMb() {
+        return get().artifactsMaxTotalMb();
+    }
+
+    /**
+     * Check if the page objects and framework methods each test runs are recorded for impact selection
+     * @return true if impact recording is enabled
+     */
+    public static boolean isImpactRecordingEnabled() {
+        return get().impactRecordingEnabled();
+    }
+
+    /**
+     * Check if only tests affected by changes since the impact base ref should run
+     * @return true if impact selection is enabled
+     */
+    public static boolean isImpactSelectionEnabled() {
+        return get().impactSelectionEnabled();
+    }
+
+    /**
+     * Get the git revision changes are compared against in impact selection
+     * @return git ref, e.g. HEAD or origin/main
+     */
+    public static String getImpactBaseRef() {
+        return get().impactBaseRef();
     }
 
-}
\ No newline at end of file
+    /**
+     * Check if network requests should be intercepted through WebDriver BiDi
+     * @return true if network interception is enabled
+     */
+    public static boolean isNetworkInterceptionEnabled() {
+        return get().networkInterceptionEnabled();
+    }
+
+    /**
+     * Get resource types that are blocked, e.g. image, font, media, stylesheet, script
+     * @return blocked resource types
+     */
+    public static List<String> getNetworkBlockTypes() {
+        return get().networkBlockTypes();
+    }
+
+    /**
+     * Get URL glob patterns that are blocked
+     * @return deny list patterns
+     */
+    public static List<String> getNetworkBlockUrls() {
+        return get().networkBlockUrls();
+    }
+
+    /**
+     * Get URL glob patterns that are never blocked, even if their type is
+     * @return allow list patterns
+     */
+    public static List<String> getNetworkAllowUrls() {
+        return get().networkAllowUrls();
+    }
+
+    /**
+     * Get URL glob patterns answered with an empty response instead of being fetched
+     * @return stub list patterns
+     */
+    public static List<String> getNetworkStubUrls() {
+        return get().networkStubUrls();
+    }
+
+    /**
+     * Get the number of simulated users the login load generator starts per second once ramped up
+     * @return arrivals per second
+     */
+    public static int getLoadArrivalRate() {
+        return get().loadArrivalRate();
+    }
+
+    /**
+     * Get the time over which the arrival rate of the login load generator rises from zero
+     * @return ramp-up duration
+     */
+    public static Duration getLoadRampUp() {
+        return get().loadRampUp();
+    }
+
+    /**
+     * Get how long the login load generator starts new users, ramp-up included
+     * @return load duration
+     */
+    public static Duration getLoadDuration() {
+        return get().loadDuration();
+    }
+
+    /**
+     * Get the usernames simulated users log in with, taken in turn
+     * @return usernames
+     */
+    public static List<String> getLoadUsers() {
+        return get().loadUsers();
+    }
+
+    /**
+     * Get the password simulated users log in with
+     * @return password
+     */
+    public static String getLoadPassword() {
+        return get().loadPassword();
+    }
+}
@@ -0,0 +1,146 @@
+package com.epam.training.alexandru_cruceat.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, validated configuration, parsed once from config.properties, environment variables
+ * and system properties. Read it through {@link DriverConfig}.
+ */
+public record FrameworkConfig(
+        String browser,
+        boolean headless,
+        boolean maximizeWindow,
+        Duration implicitWaitTimeout,
+        Duration explicitWaitTimeout,
+        Duration pageLoadTimeout,
+        String pageLoadStrategy,
+        boolean eventDrivenWait,
+        boolean fastFormFill,
+        boolean elementCacheEnabled,
+        String baseUrl,
+        int localServerPort,
+        String localServerSnapshot,
+        boolean localServerRecordMode,
+        String localServerRecordSource,
+        String localServerRecordDir,
+        boolean driverPoolEnabled,
+        int driverPoolMaxSize,
+        int driverPoolMaxUses,
+        Duration driverPoolMaxIdle,
+        boolean driverPrefetchEnabled,
+        boolean driverServiceShared,
+        boolean admissionControlEnabled,
+        int admissionMemoryReserveMb,
+        int testForks,
+        boolean remoteMode,
+        List<String> remoteNodes,
+        Duration remoteSessionTimeout,
+        boolean metricsEnabled,
+        boolean metricsPerTest,
+        boolean artifactsEnabled,
+        int artifactsMaxTotalMb,
+        boolean impactRecordingEnabled,
+        boolean impactSelectionEnabled,
+        String impactBaseRef,
+        boolean networkInterceptionEnabled,
+        List<String> networkBlockTypes,
+        List<String> networkBlockUrls,
+        List<String> networkAllowUrls,
+        List<String> networkStubUrls,
+        int loadArrivalRate,
+        Duration loadRampUp,
+        Duration loadDuration,
+        List<String> loadUsers,
+        String loadPassword) {
+
+    static final String BASE_URL = "https://www.saucedemo.com/";
+    private static final List<String> BROWSERS = List.of("firefox", "chrome", "edge");
+    private static final List<String> PAGE_LOAD_STRATEGIES = List.of("normal", "eager", "none");
+    private static final List<String> WAIT_STRATEGIES = List.of("event", "polling");
+    private static final List<String> FORM_FILL_MODES = List.of("keystrokes", "fast");
+    private static final List<String> DRIVER_MODES = List.of("local", "remote");
+    private static final Set<String> SECRETS = Set.of("loadPassword");
+
+    /**
+     * Read and validate every setting
+     * @param source layered configuration values
+     * @return configuration
+     * @throws IllegalStateException listing every invalid or unknown setting
+     */
+    static FrameworkConfig load(ConfigSource source) {
+        FrameworkConfig config = new FrameworkConfig(
+                source.oneOf("browser", "firefox", BROWSERS),
+                source.bool("headless", false),
+                source.bool("browser.window.maximize", true),
+                source.seconds("implicit.wait.timeout", Duration.ofSeconds(10)),
+                source.seconds("explicit.wait.timeout", Duration.ofSeconds(15)),
+                source.seconds("page.load.timeout", Duration.ofSeconds(30)),
+                source.oneOf("page.load.strategy", "normal", PAGE_LOAD_STRATEGIES),
+                "event".equals(source.oneOf("wait.strategy", "event", WAIT_STRATEGIES)),
+                "fast".equals(source.oneOf("form.fill.mode", "keystrokes", FORM_FILL_MODES)),
+                source.bool("element.cache.enabled", true),
+                source.string("base.url", BASE_URL),
+                source.integer("local.server.port", 0, 0),
+                source.string("local.server.snapshot", "snapshot"),
+                source.bool("local.server.record", false),
+                source.string("local.server.record.source", BASE_URL),
+                source.string("local.server.record.dir", "src/test/resources/snapshot"),
+                source.bool("driver.pool.enabled", true),
+                source.integer("driver.pool.max.size", 0, 0),
+                source.integer("driver.pool.max.uses", 50, 1),
+                source.seconds("driver.pool.max.idle.seconds", Duration.ofSeconds(120)),
+                source.bool("driver.prefetch.enabled", true),
+                source.bool("driver.service.shared", true),
+                source.bool("admission.control.enabled", true),
+                source.integer("admission.memory.reserve.mb", 1024, 0),
+                source.integer("test.forks", 1, 1),
+                "remote".equals(source.oneOf("driver.mode", "local", DRIVER_MODES)),
+                source.list("remote.nodes", "http://localhost:4444"),
+                source.seconds("remote.session.timeout.seconds", Duration.ofSeconds(120)),
+                source.bool("metrics.enabled", true),
+                source.bool("metrics.per.test", true),
+                source.bool("artifacts.enabled", true),
+                source.integer("artifacts.max.total.mb", 200, 1),
+                source.bool("impact.recording.enabled", true),
+                source.bool("impact.selection.enabled", false),
+                source.string("impact.base.ref", "HEAD"),
+                source.bool("network.interception.enabled", false),
+                source.list("network.block.types", "image,font,media"),
+                source.list("network.block.urls", ""),
+                source.list("network.allow.urls", ""),
+                source.list("network.stub.urls", ""),
+                source.integer("load.arrival.rate", 20, 1),
+                source.seconds("load.ramp.up.seconds", Duration.ofSeconds(10)),
+                source.seconds("load.duration.seconds", Duration.ofSeconds(60)),
+                source.list("load.users", "standard_user"),
+                source.string("load.password", "secret_sauce"));
+        source.validate();
+        return config;
+    }
+
+    /**
+     * Every setting except credentials, since the configuration is logged at startup
+     * @return settings as name=value pairs
+     */
+    @Override
+    public String toString() {
+        return Arrays.stream(FrameworkConfig.class.getRecordComponents())
+                .filter(component -> !SECRETS.contains(component.getName()))
+                .map(component -> component.getName() + "=" + valueOf(component))
+                .collect(Collectors.joining(", ", "FrameworkConfig[", "]"));
+    }
+
+    private Object valueOf(RecordComponent component) {
+        try {
+            return component.getAccessor().invoke(this);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read setting " + component.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.epam.training.alexandru_cruceat.data;
+
+import java.util.List;
+
+/**
+ * Credentials published on the login page
+ * @param usernames accepted usernames in page order
+ * @param password password shared by all users
+ */
+public record LoginCredentials(List<String> usernames, String password) {
+
+    public LoginCredentials {
+        usernames = List.copyOf(usernames);
+    }
+}
@@ -6,62 +6,118 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Data provider for test data
+ * Data provider for test data.
+ * The data map is immutable once published, so reads never take a lock.
  */
 public class TestDataProvider {
     private static final Logger logger = LoggerFactory.getLogger(TestDataProvider.class);
-    private static TestDataProvider instance;
 
-    private final Map<String, Object> dataMap = new HashMap<>();
+    private volatile Map<String, Object> dataMap;
+    private final AtomicReference<CompletableFuture<LoginCredentials>> credentials = new AtomicReference<>();
 
     private TestDataProvider() {
         logger.info("Initializing TestDataProvider");
-        initializeStaticData();
+        dataMap = Map.copyOf(initializeStaticData());
+    }
+
+    /**
+     * Lazily created instance holder
+     */
+    private static final class Holder {
+        private static final TestDataProvider INSTANCE = new TestDataProvider();
     }
 
     /**
      * Get singleton instance
      * @return TestDataProvider instance
      */
-    public static synchronized TestDataProvider getInstance() {
-        if (instance == null) {
-            instance = new TestDataProvider();
-        }
-        return instance;
+    public static TestDataProvider getInstance() {
+        return Holder.INSTANCE;
     }
 
     /**
      * Initialize static test data
+     * @return static data entries
      */
-    private void initializeStaticData() {
+    private Map<String, Object> initializeStaticData() {
+        Map<String, Object> staticData = new HashMap<>();
         // Empty credentials
-        dataMap.put("emptyUsername", "");
-        dataMap.put("emptyPassword", "");
+        staticData.put("emptyUsername", "");
+        staticData.put("emptyPassword", "");
+        return staticData;
     }
 
     /**
-     * Initialize dynamic test data from login page
+     * Initialize dynamic test data from login page.
+     * Credentials are extracted once per run; concurrent callers wait for the first extraction.
      * @param loginPage the login page to extract data from
      */
     public void initializeDynamicData(LoginPage loginPage) {
+        CompletableFuture<LoginCredentials> extraction;
+        // A failed extraction resets the reference, so loop until there is a future to wait for or to complete
+        while ((extraction = credentials.get()) == null) {
+            CompletableFuture<LoginCredentials> ownExtraction = new CompletableFuture<>();
+            if (credentials.compareAndSet(null, ownExtraction)) {
+                extractCredentials(loginPage, ownExtraction);
+                return;
+            }
+        }
+
+        try {
+            extraction.join();
+        } catch (CompletionException e) {
+            switch (e.getCause()) {
+                case RuntimeException cause -> throw cause;
+                case Error cause -> throw cause;
+                default -> throw new IllegalStateException("Test data extraction failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Extract credentials from the login page and publish them
+     * @param loginPage the login page to extract data from
+     * @param extraction future completed with the result
+     */
+    private void extractCredentials(LoginPage loginPage, CompletableFuture<LoginCredentials> extraction) {
         logger.info("Initializing dynamic test data from login page");
+        try {
+            LoginCredentials extracted = new LoginCredentials(loginPage.getValidUsernames(), loginPage.getValidPassword());
+            publish(extracted);
+            extraction.complete(extracted);
+        } catch (RuntimeException | Error e) {
+            // Allow a later test to retry the extraction; waiting threads get the same failure
+            credentials.compareAndSet(extraction, null);
+            extraction.completeExceptionally(e);
+            throw e;
+        }
+    }
 
-        // Extract usernames
-        List<String> usernames = loginPage.getValidUsernames();
+    /**
+     * Publish a new immutable data map containing the extracted credentials
+     * @param extracted credentials from the login page
+     */
+    private void publish(LoginCredentials extracted) {
+        Map<String, Object> updated = new HashMap<>(dataMap);
+
+        List<String> usernames = extracted.usernames();
         if (!usernames.isEmpty()) {
-            dataMap.put("validUsername", usernames.getFirst());
-            dataMap.put("allValidUsernames", usernames);
+            updated.put("validUsername", usernames.getFirst());
+            updated.put("allValidUsernames", usernames);
             logger.info("Extracted {} valid usernames", usernames.size());
         }
 
-        // Extract password
-        String password = loginPage.getValidPassword();
-        if (!password.isEmpty()) {
-            dataMap.put("validPassword", password);
+        if (!extracted.password().isEmpty()) {
+            updated.put("validPassword", extracted.password());
             logger.info("Extracted valid password");
         }
+
+        dataMap = Map.copyOf(updated);
     }
 
     /**
@@ -91,4 +147,4 @@ public class TestDataProvider {
     public List<String> getValidUsernames() {
         return (List<String>) getData("allValidUsernames");
     }
-}
\ No newline at end of file
+}
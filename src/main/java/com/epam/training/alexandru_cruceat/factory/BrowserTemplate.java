@@ -0,0 +1,35 @@
+package com.epam.training.alexandru_cruceat.factory;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+
+/**
+ * Browser options precomputed once per browser type from DriverConfig
+ * @param browserType normalized browser type
+ * @param options typed options, never handed out; use {@link #newOptions()}
+ * @param capabilities immutable copy of the options sent in new-session requests
+ */
+record BrowserTemplate(String browserType, AbstractDriverOptions<?> options, Capabilities capabilities) {
+    private static final Capabilities NO_CAPABILITIES = new ImmutableCapabilities();
+
+    BrowserTemplate(String browserType, AbstractDriverOptions<?> options) {
+        this(browserType, options, new ImmutableCapabilities(options));
+    }
+
+    /**
+     * Copy the options for one driver; driver constructors and DriverFinder set e.g. the browser binary on them
+     * @return new options equal to the template's
+     */
+    AbstractDriverOptions<?> newOptions() {
+        return switch (options) {
+            case ChromeOptions chrome -> chrome.merge(NO_CAPABILITIES);
+            case EdgeOptions edge -> edge.merge(NO_CAPABILITIES);
+            case FirefoxOptions firefox -> firefox.merge(NO_CAPABILITIES);
+            default -> throw new IllegalStateException("Unsupported options type: " + options.getClass().getName());
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.training.alexandru_cruceat.factory;
+
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Long-lived driver service processes shared by all sessions of a browser type.
+ * chromedriver and msedgedriver host many sessions, so one process per browser is enough.
+ * geckodriver hosts a single session at a time, so its processes are kept idle between sessions and reused.
+ */
+final class DriverServices {
+    private static final Logger logger = LoggerFactory.getLogger(DriverServices.class);
+
+    private static final Map<String, DriverService> multiSessionServices = new ConcurrentHashMap<>();
+    private static final Map<String, Queue<DriverService>> idleSingleSessionServices = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, DriverService> servicesByDriver = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<String, String> driverPaths = new ConcurrentHashMap<>();
+
+    static {
+        // After the pool has quit its sessions, so no browser loses its driver while being closed
+        ShutdownSequence.register(ShutdownSequence.Phase.SERVICES, "driver services", DriverServices::stopAll);
+    }
+
+    private DriverServices() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get a running service able to host one more session
+     * @param template browser template
+     * @return running service
+     */
+    static DriverService acquire(BrowserTemplate template) {
+        String browserType = template.browserType();
+        if (!"firefox".equals(browserType)) {
+            return multiSessionServices.computeIfAbsent(browserType, key -> start(template));
+        }
+        DriverService service = idleSingleSessionServices
+                .computeIfAbsent(browserType, key -> new ConcurrentLinkedQueue<>())
+                .poll();
+        return service != null && service.isRunning() ? service : start(template);
+    }
+
+    /**
+     * Remember which service hosts a session so it can be reused once the session ends
+     * @param driver session created on the service
+     * @param service hosting service
+     */
+    static void bind(WebDriver driver, DriverService service) {
+        servicesByDriver.put(driver, service);
+    }
+
+    /**
+     * Called after a session quit; single-session services become available again
+     * @param driver session that was quit
+     * @param browserType browser type of the session
+     */
+    static void release(WebDriver driver, String browserType) {
+        DriverService service = servicesByDriver.remove(driver);
+        if (service != null && !multiSessionServices.containsValue(service)) {
+            idleSingleSessionServices.get(browserType).offer(service);
+        }
+    }
+
+    /**
+     * Give back a service whose session could not be created
+     * @param service service returned by {@link #acquire(BrowserTemplate)}
+     * @param browserType browser type
+     */
+    static void abandon(DriverService service, String browserType) {
+        if (!multiSessionServices.containsValue(service)) {
+            idleSingleSessionServices.get(browserType).offer(service);
+        }
+    }
+
+    /**
+     * Locate the driver and browser binaries with Selenium Manager, as the driver constructors do,
+     * and set the browser binary on the options
+     * @param browserType normalized browser type
+     * @param options template options
+     */
+    static void resolveBinaries(String browserType, AbstractDriverOptions<?> options) {
+        DriverFinder finder = new DriverFinder(newService(browserType), options);
+        driverPaths.putIfAbsent(browserType, finder.getDriverPath());
+        if (!finder.hasBrowserPath()) {
+            return;
+        }
+        switch (options) {
+            case ChromiumOptions<?> chromium -> chromium.setBinary(finder.getBrowserPath());
+            case FirefoxOptions firefox -> firefox.setBinary(finder.getBrowserPath());
+            default -> throw new IllegalStateException("Unsupported options type: " + options.getClass().getName());
+        }
+        // The located browser is the version to use, as in ChromeDriver and FirefoxDriver
+        options.setCapability("browserVersion", (Object) null);
+    }
+
+    private static DriverService newService(String browserType) {
+        return switch (browserType) {
+            case "chrome" -> ChromeDriverService.createDefaultService();
+            case "edge" -> EdgeDriverService.createDefaultService();
+            default -> GeckoDriverService.createDefaultService();
+        };
+    }
+
+    private static DriverService start(BrowserTemplate template) {
+        DriverService service = newService(template.browserType());
+        // Resolve the driver binary once per browser instead of once per session
+        service.setExecutable(driverPaths.computeIfAbsent(template.browserType(),
+                key -> new DriverFinder(service, template.newOptions()).getDriverPath()));
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start " + template.browserType() + " driver service", e);
+        }
+        logger.info("Started shared {} driver service at {}", template.browserType(), service.getUrl());
+        return service;
+    }
+
+    private static void stopAll() {
+        multiSessionServices.values().forEach(DriverService::stop);
+        idleSingleSessionServices.values().forEach(services -> services.forEach(DriverService::stop));
+        servicesByDriver.values().forEach(DriverService::stop);
+    }
+}
@@ -0,0 +1,280 @@
+package com.epam.training.alexandru_cruceat.factory;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules remote sessions over one or more Selenium Grid / standalone endpoints.
+ * Free slots per browser are read from each endpoint's /status, adjusted locally for sessions
+ * created and quit since then, and new sessions go to the least-loaded node, fastest first on ties.
+ * When every node is saturated, creation is retried with backoff until the remote session timeout.
+ */
+final class RemoteNodeScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(RemoteNodeScheduler.class);
+
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(5);
+    private static final long STATUS_MAX_AGE_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final long SATURATED_BACKOFF_NANOS = Duration.ofSeconds(5).toNanos();
+    private static final long MIN_RETRY_MILLIS = 100;
+    private static final long MAX_RETRY_MILLIS = 2_000;
+    private static final double LATENCY_WEIGHT = 0.3;
+    private static final RemoteNodeScheduler instance = new RemoteNodeScheduler();
+
+    private final List<RemoteNode> nodes;
+    private final Map<WebDriver, RemoteNode> nodesByDriver = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(STATUS_TIMEOUT).build();
+    private final Json json = new Json();
+    private final LongAdder saturatedRetries = new LongAdder();
+
+    private RemoteNodeScheduler() {
+        this(DriverConfig.getRemoteNodes());
+        ShutdownSequence.register(ShutdownSequence.Phase.STATISTICS, "remote node statistics", this::logStatistics);
+    }
+
+    /**
+     * Create a scheduler for the given endpoints, e.g. stand-in nodes in tests.
+     * Unlike the shared instance, it does not log statistics at shutdown.
+     * @param nodeUrls Grid / standalone URLs
+     */
+    RemoteNodeScheduler(List<String> nodeUrls) {
+        this.nodes = nodeUrls.stream().map(RemoteNode::new).toList();
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("driver.mode=remote needs at least one endpoint in remote.nodes");
+        }
+    }
+
+    /**
+     * Get singleton instance
+     * @return RemoteNodeScheduler instance
+     */
+    static RemoteNodeScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Create a session on the least-loaded node that has a free slot for the browser
+     * @param template browser template
+     * @return remote WebDriver instance
+     */
+    WebDriver createSession(BrowserTemplate template) {
+        Capabilities capabilities = template.capabilities();
+        String browserName = capabilities.getBrowserName();
+        long deadline = System.nanoTime() + DriverConfig.getRemoteSessionTimeout().toNanos();
+        long retryMillis = MIN_RETRY_MILLIS;
+
+        while (true) {
+            Optional<RemoteNode> node = reserveLeastLoaded(browserName);
+            if (node.isPresent()) {
+                WebDriver driver = tryCreate(node.get(), capabilities);
+                if (driver != null) {
+                    return driver;
+                }
+            }
+            if (System.nanoTime() + retryMillis * 1_000_000 > deadline) {
+                throw new SessionNotCreatedException("No remote node had a free " + browserName
+                        + " slot within " + DriverConfig.getRemoteSessionTimeout());
+            }
+            saturatedRetries.increment();
+            logger.debug("All remote nodes saturated for {}, retrying in {} ms", browserName, retryMillis);
+            sleep(retryMillis);
+            retryMillis = Math.min(MAX_RETRY_MILLIS, retryMillis * 2);
+        }
+    }
+
+    /**
+     * Give the slot of a quit session back to its node
+     * @param driver session that was quit
+     */
+    void release(WebDriver driver) {
+        RemoteNode node = nodesByDriver.remove(driver);
+        if (node != null) {
+            node.freeSlots.incrementAndGet();
+        }
+    }
+
+    private Optional<RemoteNode> reserveLeastLoaded(String browserName) {
+        long now = System.nanoTime();
+        // Status requests can take up to STATUS_TIMEOUT, so they run outside the lock, one thread per stale node
+        nodes.stream()
+                .filter(node -> now - node.statusReadNanos > STATUS_MAX_AGE_NANOS && node.refreshing.compareAndSet(false, true))
+                .forEach(node -> refreshStatus(node, browserName));
+        return reserve(now);
+    }
+
+    private synchronized Optional<RemoteNode> reserve(long now) {
+        Optional<RemoteNode> chosen = nodes.stream()
+                .filter(node -> node.saturatedUntilNanos < now && node.freeSlots.get() > 0)
+                .min(Comparator.comparingDouble(RemoteNode::score));
+        chosen.ifPresent(node -> node.freeSlots.decrementAndGet());
+        return chosen;
+    }
+
+    private WebDriver tryCreate(RemoteNode node, Capabilities capabilities) {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = new Augmenter().augment(new RemoteWebDriver(node.uri.toURL(), capabilities));
+            node.recordSessionLatency(System.nanoTime() - start);
+            node.created.increment();
+            nodesByDriver.put(driver, node);
+            return driver;
+        } catch (SessionNotCreatedException e) {
+            // The node reported a free slot but refused the session, e.g. another client filled it meanwhile
+            logger.debug("Node {} refused a new session: {}", node.uri, e.getMessage());
+        } catch (WebDriverException e) {
+            logger.warn("Node {} failed to create a session: {}", node.uri, e.getMessage());
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException("Invalid remote node URL " + node.uri, e);
+        }
+        node.markSaturated();
+        return null;
+    }
+
+    /**
+     * Read free slots and latency from the node's /status endpoint
+     * @param node remote node
+     * @param browserName browser the slots are counted for
+     */
+    private void refreshStatus(RemoteNode node, String browserName) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(node.uri.resolve("status")).timeout(STATUS_TIMEOUT).GET().build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            node.recordStatusLatency(System.nanoTime() - start);
+            Map<String, Object> status = json.toType(response.body(), Json.MAP_TYPE);
+            Map<String, Object> value = asMap(status.get("value"));
+            int maxSlots = 0;
+            int freeSlots = 0;
+            if (Boolean.TRUE.equals(value.get("ready"))) {
+                for (Object nodeStatus : asList(value.get("nodes"))) {
+                    if (!"UP".equals(asMap(nodeStatus).get("availability"))) {
+                        continue;
+                    }
+                    for (Object slot : asList(asMap(nodeStatus).get("slots"))) {
+                        Map<String, Object> stereotype = asMap(asMap(slot).get("stereotype"));
+                        if (browserName.equalsIgnoreCase(String.valueOf(stereotype.get("browserName")))) {
+                            maxSlots++;
+                            if (asMap(slot).get("session") == null) {
+                                freeSlots++;
+                            }
+                        }
+                    }
+                }
+            }
+            updateSlots(node, maxSlots, freeSlots);
+        } catch (IOException | JsonException | ClassCastException e) {
+            logger.warn("Could not read status of remote node {}: {}", node.uri, e.getMessage());
+            updateSlots(node, node.maxSlots, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading status of " + node.uri, e);
+        } finally {
+            node.statusReadNanos = System.nanoTime();
+            node.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Apply a status read under the lock, so it does not interleave with a reservation
+     */
+    private synchronized void updateSlots(RemoteNode node, int maxSlots, int freeSlots) {
+        node.maxSlots = maxSlots;
+        node.freeSlots.set(freeSlots);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    private static List<?> asList(Object value) {
+        return value instanceof List<?> list ? list : List.of();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a remote slot", e);
+        }
+    }
+
+    private void logStatistics() {
+        nodes.forEach(node -> logger.info("Remote node {}: sessions={}, refused={}, avgNewSession={} ms, statusLatency={} ms",
+                node.uri, node.created.sum(), node.refused.sum(), node.sessionLatencyMillis, node.statusLatencyMillis));
+        logger.info("Remote scheduling retries while saturated: {}", saturatedRetries.sum());
+    }
+
+    /**
+     * Capacity and latency of one endpoint as last seen by the scheduler
+     */
+    private static final class RemoteNode {
+        private final URI uri;
+        private final AtomicInteger freeSlots = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final LongAdder created = new LongAdder();
+        private final LongAdder refused = new LongAdder();
+        private volatile int maxSlots;
+        private volatile long statusReadNanos = System.nanoTime() - 2 * STATUS_MAX_AGE_NANOS;
+        private volatile long saturatedUntilNanos = System.nanoTime();
+        private volatile double sessionLatencyMillis;
+        private volatile double statusLatencyMillis;
+
+        private RemoteNode(String url) {
+            this.uri = URI.create(url.endsWith("/") ? url : url + "/");
+        }
+
+        /**
+         * Share of the node's slots in use; slow nodes lose ties against fast ones
+         */
+        private double score() {
+            double load = maxSlots == 0 ? 1 : 1 - (double) freeSlots.get() / maxSlots;
+            return load + sessionLatencyMillis / 100_000;
+        }
+
+        private void markSaturated() {
+            refused.increment();
+            freeSlots.set(0);
+            saturatedUntilNanos = System.nanoTime() + SATURATED_BACKOFF_NANOS;
+        }
+
+        private void recordSessionLatency(long nanos) {
+            sessionLatencyMillis = ewma(sessionLatencyMillis, nanos / 1_000_000.0);
+        }
+
+        private void recordStatusLatency(long nanos) {
+            statusLatencyMillis = ewma(statusLatencyMillis, nanos / 1_000_000.0);
+        }
+
+        private static double ewma(double current, double sample) {
+            return current == 0 ? sample : current + LATENCY_WEIGHT * (sample - current);
+        }
+    }
+}
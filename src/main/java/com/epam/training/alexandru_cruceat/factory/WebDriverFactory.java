@@ -2,6 +2,11 @@ package com.epam.training.alexandru_cruceat.factory;
 
 
 import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.metrics.CommandTimingListener;
+import com.epam.training.alexandru_cruceat.metrics.LatencyMetrics;
+import com.epam.training.alexandru_cruceat.network.NetworkInterceptor;
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -9,37 +14,101 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
  * Factory class for Browser Types.
+ * Browser options are built once per browser type. Local sessions are created on long-lived driver
+ * service processes unless disabled; in remote mode they are scheduled over Selenium Grid / standalone nodes.
  */
 public class WebDriverFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(WebDriverFactory.class);
 
+    private static final Map<TemplateKey, BrowserTemplate> templates = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, CreatedDriver> createdDrivers = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<String, CreationStats> creationStats = new ConcurrentHashMap<>();
+
+    static {
+        ShutdownSequence.register(ShutdownSequence.Phase.STATISTICS, "driver creation statistics", WebDriverFactory::logCreationStats);
+    }
+
     /**
      * Creates a WebDriver instance for the specified browser
      * @param browserType Type of browser to use
      * @return Configured WebDriver instance
      */
     public static WebDriver createDriver(String browserType) {
-        WebDriver driver = switch (browserType.toLowerCase()) {
-            case "edge" -> createEdgeDriver();
-            case "chrome" -> createChromeDriver();
-            default -> createFirefoxDriver();
+        long start = System.nanoTime();
+        String mode = creationMode();
+        BrowserTemplate template = templates.computeIfAbsent(TemplateKey.current(normalize(browserType), mode),
+                WebDriverFactory::buildTemplate);
+        WebDriver rawDriver = switch (mode) {
+            case "remote" -> RemoteNodeScheduler.getInstance().createSession(template);
+            case "shared-service" -> createOnSharedService(template);
+            default -> createStandalone(template);
         };
 
+        WebDriver driver = DriverConfig.isMetricsEnabled()
+                ? new EventFiringDecorator<>(new CommandTimingListener()).decorate(rawDriver)
+                : rawDriver;
+
         configureDriver(driver);
+        if (DriverConfig.isNetworkInterceptionEnabled()) {
+            // BiDi needs the undecorated driver; interceptors are looked up by the driver tests use
+            NetworkInterceptor.install(rawDriver, driver);
+        }
+        createdDrivers.put(driver, new CreatedDriver(rawDriver, template.browserType(), mode));
+
+        long elapsed = System.nanoTime() - start;
+        creationStats.computeIfAbsent(mode, key -> new CreationStats()).add(elapsed);
+        LatencyMetrics.record(LatencyMetrics.Kind.DRIVER, mode, elapsed);
+        logger.info("Created {} driver in {} ms ({})", template.browserType(), elapsed / 1_000_000, mode);
         return driver;
     }
 
+    /**
+     * Quits a WebDriver instance created by this factory and releases resources tracked for it
+     * @param driver WebDriver instance to quit
+     */
+    public static void quitDriver(WebDriver driver) {
+        NetworkInterceptor.uninstall(driver);
+        CreatedDriver created = createdDrivers.remove(driver);
+        try {
+            driver.quit();
+        } finally {
+            // Use the creation mode; a thread config override may have changed driver.mode since
+            if (created != null && "remote".equals(created.mode())) {
+                RemoteNodeScheduler.getInstance().release(created.rawDriver());
+            } else if (created != null) {
+                DriverServices.release(created.rawDriver(), created.browserType());
+            }
+        }
+    }
+
+    private static String creationMode() {
+        if (DriverConfig.isRemoteMode()) {
+            return "remote";
+        }
+        return DriverConfig.isDriverServiceShared() ? "shared-service" : "standalone";
+    }
+
     /**
      * Applies common configuration to all WebDriver instances
      * @param driver WebDriver instance to configure
@@ -51,67 +120,144 @@ public class WebDriverFactory {
     }
 
     /**
-     * Creates a ChromeDriver instance with default options
-     * @return ChromeDriver instance
+     * Creates a session with only a new-session call on a running driver service
+     * @param template browser template
+     * @return WebDriver instance
      */
-    private static WebDriver createChromeDriver() {
-        ChromeOptions options = new ChromeOptions();
-        applyCommonOptions(options);
-        return new ChromeDriver(options);
+    private static WebDriver createOnSharedService(BrowserTemplate template) {
+        DriverService service = DriverServices.acquire(template);
+        try {
+            // Augmenter adds BiDi and other browser specific interfaces based on the returned capabilities
+            WebDriver driver = new Augmenter().augment(new RemoteWebDriver(service.getUrl(), template.capabilities()));
+            DriverServices.bind(driver, service);
+            return driver;
+        } catch (RuntimeException e) {
+            DriverServices.abandon(service, template.browserType());
+            throw e;
+        }
     }
 
     /**
-     * Creates a FirefoxDriver instance with default options
-     * @return FirefoxDriver instance
+     * Creates a driver that starts and owns its own driver service
+     * @param template browser template
+     * @return WebDriver instance
      */
-    private static WebDriver createFirefoxDriver() {
-        FirefoxOptions options = new FirefoxOptions();
-        applyCommonOptions(options);
-        return new FirefoxDriver(options);
+    private static WebDriver createStandalone(BrowserTemplate template) {
+        return switch (template.browserType()) {
+            case "edge" -> new EdgeDriver((EdgeOptions) template.newOptions());
+            case "chrome" -> new ChromeDriver((ChromeOptions) template.newOptions());
+            default -> new FirefoxDriver((FirefoxOptions) template.newOptions());
+        };
     }
 
     /**
-     * Creates a EdgeDriver instance with default options
-     * @return EdgeDriver instance
+     * Builds browser options for a browser type from DriverConfig
+     * @param key browser type, creation mode and the settings that shape its options
+     * @return browser template
      */
-    private static WebDriver createEdgeDriver() {
-        EdgeOptions options = new EdgeOptions();
-        applyCommonOptions(options);
-        return new EdgeDriver(options);
+    private static BrowserTemplate buildTemplate(TemplateKey key) {
+        List<String> arguments = commonArguments(key);
+        AbstractDriverOptions<?> options = switch (key.browserType()) {
+            case "edge" -> new EdgeOptions().addArguments(arguments);
+            case "chrome" -> new ChromeOptions().addArguments(arguments);
+            default -> new FirefoxOptions().addArguments(arguments);
+        };
+        applyCapabilities(options, key);
+        if ("shared-service".equals(key.mode())) {
+            // Sessions on a shared service skip the driver constructors, which would otherwise locate the browser
+            DriverServices.resolveBinaries(key.browserType(), options);
+        }
+        logger.debug("Built {} capabilities template: {}", key.browserType(), options);
+        return new BrowserTemplate(key.browserType(), options);
+    }
+
+    private static String normalize(String browserType) {
+        return switch (browserType.toLowerCase()) {
+            case "edge" -> "edge";
+            case "chrome" -> "chrome";
+            default -> "firefox";
+        };
     }
 
     /**
-     * Applies common configurations to browser options
-     * @param options The browser options object (ChromeOptions, FirefoxOptions, EdgeOptions)
-     * @param <T> The type of browser options
-     * @return The configured options
+     * Applies page load strategy and enables WebDriver BiDi when network interception is configured
+     * @param options The browser options object
+     * @param key settings the options are built for
      */
-    private static <T> T applyCommonOptions(T options) {
-        try {
-            Method addArgumentsMethod = options.getClass().getMethod("addArguments", String[].class);
+    private static void applyCapabilities(AbstractDriverOptions<?> options, TemplateKey key) {
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(key.pageLoadStrategy()));
+        if (key.bidi()) {
+            options.setCapability("webSocketUrl", true);
+        }
+    }
 
-            List<String> arguments = new ArrayList<>();
+    /**
+     * Builds the browser arguments shared by all browser types
+     * @param key settings the arguments are built for
+     * @return browser arguments
+     */
+    private static List<String> commonArguments(TemplateKey key) {
+        List<String> arguments = new ArrayList<>();
 
-            // Handle headless mode
-            if (DriverConfig.isHeadless()) {
-                arguments.add("--headless=new");
-            }
+        // Handle headless mode
+        if (key.headless()) {
+            arguments.add("--headless=new");
+        }
 
-            // Add common browser arguments
-            if (DriverConfig.shouldMaximizeWindow()) {
-                arguments.add("--start-maximized");
-            }
+        // Add common browser arguments
+        if (key.maximizeWindow()) {
+            arguments.add("--start-maximized");
+        }
+
+        arguments.add("--disable-extensions");
+        arguments.add("--disable-popup-blocking");
+        arguments.add("--disable-infobars");
+        return arguments;
+    }
 
-            arguments.add("--disable-extensions");
-            arguments.add("--disable-popup-blocking");
-            arguments.add("--disable-infobars");
+    private static void logCreationStats() {
+        creationStats.forEach((mode, stats) -> logger.info("Driver creation ({}): count={}, avg={} ms, max={} ms",
+                mode, stats.count.sum(), stats.averageMillis(), stats.maxNanos.get() / 1_000_000));
+    }
 
-            // Apply all arguments at once
-            addArgumentsMethod.invoke(options, (Object) arguments.toArray(new String[0]));
+    /**
+     * Settings that shape browser options; threads with config overrides get their own template
+     */
+    private record TemplateKey(String browserType, String mode, boolean headless, boolean maximizeWindow,
+                               String pageLoadStrategy, boolean bidi) {
+
+        private static TemplateKey current(String browserType, String mode) {
+            return new TemplateKey(browserType, mode, DriverConfig.isHeadless(), DriverConfig.shouldMaximizeWindow(),
+                    DriverConfig.getPageLoadStrategy(), DriverConfig.isNetworkInterceptionEnabled());
+        }
+    }
+
+    /**
+     * Undecorated driver behind the driver handed out to tests
+     * @param rawDriver driver as created, before the metrics decorator
+     * @param browserType normalized browser type
+     * @param mode creation mode, which decides where the session is released
+     */
+    private record CreatedDriver(WebDriver rawDriver, String browserType, String mode) {
+    }
+
+    /**
+     * Driver creation timings for one creation mode
+     */
+    private static final class CreationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
 
-        } catch (Exception e) {
-            logger.error("Failed to apply common options: {}", e.getMessage());
+        private long averageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / n / 1_000_000;
         }
-        return options;
     }
-}
\ No newline at end of file
+}
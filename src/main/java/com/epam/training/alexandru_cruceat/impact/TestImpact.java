@@ -0,0 +1,139 @@
+package com.epam.training.alexandru_cruceat.impact;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which framework classes and methods each test runs, e.g. LoginPage#login, BasePage#type
+ * and WaitUtils#waitForElementVisible, and stores them in target/test-impact.json for impact selection.
+ * Page-object helpers, page constructors and waits call {@link #record()}, which adds every framework
+ * frame on the current stack to the running test. Several Surefire forks can save to the same file.
+ */
+public final class TestImpact {
+    private static final Logger logger = LoggerFactory.getLogger(TestImpact.class);
+    private static final Path FILE = Path.of("target", "test-impact.json");
+    private static final Path LOCK_FILE = Path.of("target", "test-impact.lock");
+    private static final String FRAMEWORK_PACKAGE = "com.epam.training.alexandru_cruceat.";
+    private static final String OWN_PACKAGE = TestImpact.class.getPackageName() + ".";
+    private static final StackWalker walker = StackWalker.getInstance();
+    // Inherited so that virtual threads started by a test record into that test
+    private static final InheritableThreadLocal<Set<String>> currentTest = new InheritableThreadLocal<>();
+    private static final Map<String, Set<String>> recorded = new ConcurrentHashMap<>();
+
+    private TestImpact() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start recording for a test on the current thread
+     * @param uniqueId unique test id
+     */
+    public static void startTest(String uniqueId) {
+        if (!DriverConfig.isImpactRecordingEnabled()) {
+            return;
+        }
+        Set<String> methods = ConcurrentHashMap.newKeySet();
+        recorded.put(uniqueId, methods);
+        currentTest.set(methods);
+    }
+
+    /**
+     * Stop recording on the current thread
+     */
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Add the framework methods on the current stack to the running test
+     */
+    public static void record() {
+        Set<String> methods = currentTest.get();
+        if (methods == null) {
+            return;
+        }
+        walker.forEach(frame -> {
+            String className = frame.getClassName();
+            if (className.startsWith(FRAMEWORK_PACKAGE) && !className.startsWith(OWN_PACKAGE)) {
+                methods.add(topLevelClass(className) + "#" + frame.getMethodName());
+            }
+        });
+    }
+
+    /**
+     * Get the class a recorded method belongs to
+     * @param method recorded method, e.g. com.example.pages.LoginPage#login
+     * @return fully qualified class name
+     */
+    public static String classOf(String method) {
+        int separator = method.indexOf('#');
+        return separator < 0 ? method : method.substring(0, separator);
+    }
+
+    /**
+     * Read the methods recorded in previous runs
+     * @return recorded methods by unique test id, empty if nothing was recorded yet
+     */
+    public static Map<String, Set<String>> load() {
+        Map<String, Set<String>> stored = new TreeMap<>();
+        if (!Files.exists(FILE)) {
+            return stored;
+        }
+        try {
+            Map<String, Object> json = new Json().toType(Files.readString(FILE), Json.MAP_TYPE);
+            json.forEach((uniqueId, methods) -> {
+                Set<String> names = new TreeSet<>();
+                if (methods instanceof List<?> list) {
+                    list.forEach(method -> names.add(String.valueOf(method)));
+                }
+                stored.put(uniqueId, names);
+            });
+        } catch (IOException | JsonException e) {
+            logger.warn("Could not read {}: {}", FILE, e.getMessage());
+        }
+        return stored;
+    }
+
+    /**
+     * Merge this run's records into the file, replacing older records of the same tests
+     */
+    public static void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(FILE.toAbsolutePath().getParent());
+            // Forks finishing at the same time take turns, so none of them loses the others' records
+            try (FileChannel lockChannel = FileChannel.open(LOCK_FILE, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released when the channel is closed
+                lockChannel.lock();
+                Map<String, Set<String>> stored = load();
+                recorded.forEach((uniqueId, methods) -> stored.put(uniqueId, new TreeSet<>(methods)));
+                Files.writeString(FILE, new Json().toJson(stored));
+            }
+            logger.info("Saved impact records of {} tests to {}", recorded.size(), FILE);
+        } catch (IOException e) {
+            logger.warn("Could not save impact records: {}", e.getMessage());
+        }
+    }
+
+    private static String topLevelClass(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+}
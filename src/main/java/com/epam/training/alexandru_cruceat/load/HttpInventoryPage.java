@@ -0,0 +1,36 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.utils.SessionInjector;
+
+/**
+ * HTTP-level counterpart of {@link com.epam.training.alexandru_cruceat.pages.InventoryPage} for load generation
+ */
+public class HttpInventoryPage {
+    private static final String INVENTORY_PATH = "inventory.html";
+
+    private final VirtualUser user;
+
+    /**
+     * @param user simulated user sending the requests
+     */
+    public HttpInventoryPage(VirtualUser user) {
+        this.user = user;
+    }
+
+    /**
+     * Load the inventory page with the user's session cookie
+     * @return HttpInventoryPage instance
+     */
+    public HttpInventoryPage open() {
+        user.loadPage(INVENTORY_PATH);
+        return this;
+    }
+
+    /**
+     * Check if user is logged in
+     * @return true if the user holds a session cookie
+     */
+    public boolean isLoggedIn() {
+        return user.hasCookie(SessionInjector.SESSION_COOKIE);
+    }
+}
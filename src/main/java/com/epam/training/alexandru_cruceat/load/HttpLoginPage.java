@@ -0,0 +1,76 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.Constants.Constants;
+import com.epam.training.alexandru_cruceat.utils.SessionInjector;
+
+import java.util.List;
+
+/**
+ * HTTP-level counterpart of {@link com.epam.training.alexandru_cruceat.pages.LoginPage} for load generation.
+ * It sends the requests a browser sends for the login flow, without rendering anything.
+ * SauceDemo checks the credentials in the browser, so the checks of the app's script are repeated here;
+ * accepted credentials set the session cookie and load the inventory page, as the script does.
+ */
+public class HttpLoginPage {
+    private static final List<String> USERNAMES = List.of("standard_user", "locked_out_user", "problem_user",
+            "performance_glitch_user", "error_user", "visual_user");
+    private static final String PASSWORD = "secret_sauce";
+    private static final String LOCKED_OUT_USER = "locked_out_user";
+    private static final String ERROR_PREFIX = "Epic sadface: ";
+
+    private final VirtualUser user;
+    private String errorMessage = "";
+
+    /**
+     * @param user simulated user sending the requests
+     */
+    public HttpLoginPage(VirtualUser user) {
+        this.user = user;
+    }
+
+    /**
+     * Load the login page with its scripts and stylesheets
+     * @return HttpLoginPage instance
+     */
+    public HttpLoginPage open() {
+        user.loadPage("");
+        return this;
+    }
+
+    /**
+     * Login with credentials
+     * @param username username
+     * @param password password
+     * @return Success with HttpInventoryPage or Failure with the error the form would show
+     */
+    public HttpLoginResult login(String username, String password) {
+        if (username == null || username.isEmpty()) {
+            return fail(Constants.USERNAME_REQUIRED_ERROR);
+        }
+        if (password == null || password.isEmpty()) {
+            return fail(Constants.PASSWORD_REQUIRED_ERROR);
+        }
+        if (!USERNAMES.contains(username) || !PASSWORD.equals(password)) {
+            return fail(Constants.INVALID_CREDENTIALS_ERROR);
+        }
+        if (LOCKED_OUT_USER.equals(username)) {
+            return fail(Constants.LOCKED_OUT_ERROR);
+        }
+        errorMessage = "";
+        user.setCookie(SessionInjector.SESSION_COOKIE, username);
+        return new HttpLoginResult.Success(new HttpInventoryPage(user).open());
+    }
+
+    /**
+     * Get error message
+     * @return error message text as the form shows it, or an empty string after a successful login
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    private HttpLoginResult fail(String message) {
+        errorMessage = ERROR_PREFIX + message;
+        return new HttpLoginResult.Failure(this);
+    }
+}
@@ -0,0 +1,29 @@
+package com.epam.training.alexandru_cruceat.load;
+
+/**
+ * Outcome of submitting the login form over HTTP
+ */
+public sealed interface HttpLoginResult permits HttpLoginResult.Success, HttpLoginResult.Failure {
+
+    /**
+     * Login succeeded and the inventory page was loaded
+     * @param inventoryPage page reached after login
+     */
+    record Success(HttpInventoryPage inventoryPage) implements HttpLoginResult {
+    }
+
+    /**
+     * Login failed and an error is shown on the login page
+     * @param loginPage page showing the error
+     */
+    record Failure(HttpLoginPage loginPage) implements HttpLoginResult {
+    }
+
+    /**
+     * Check if login succeeded
+     * @return true if the inventory page was reached
+     */
+    default boolean isSuccessful() {
+        return this instanceof Success;
+    }
+}
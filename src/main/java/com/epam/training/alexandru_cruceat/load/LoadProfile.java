@@ -0,0 +1,47 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import java.time.Duration;
+
+/**
+ * Open-model load profile: users arrive at a target rate whether or not earlier users have finished.
+ * The rate rises linearly from zero to the target over the ramp-up, then stays there until the duration ends.
+ * @param arrivalRate users started per second once ramped up
+ * @param rampUp time to reach the arrival rate
+ * @param duration time during which users are started, ramp-up included
+ */
+public record LoadProfile(int arrivalRate, Duration rampUp, Duration duration) {
+
+    public LoadProfile {
+        if (arrivalRate < 1) {
+            throw new IllegalArgumentException("Arrival rate must be at least 1 per second: " + arrivalRate);
+        }
+        if (rampUp.isNegative() || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Invalid ramp-up " + rampUp + " or duration " + duration);
+        }
+    }
+
+    /**
+     * Get the time the n-th user is due to start, counted from the start of the run
+     * @param index zero-based user index
+     * @return start offset in nanoseconds, at or past the duration if the user is not started at all
+     */
+    public long offsetNanos(long index) {
+        double rampSeconds = rampUp.toNanos() / 1e9;
+        // Users started by the end of the ramp-up: the area under the rising rate
+        double rampArrivals = arrivalRate * rampSeconds / 2;
+        double seconds = index < rampArrivals
+                ? Math.sqrt(2 * index * rampSeconds / arrivalRate)
+                : rampSeconds + (index - rampArrivals) / arrivalRate;
+        return (long) (seconds * 1e9);
+    }
+
+    /**
+     * @return number of users started over the whole profile
+     */
+    public long totalArrivals() {
+        double seconds = duration.toNanos() / 1e9;
+        double rampSeconds = Math.min(rampUp.toNanos() / 1e9, seconds);
+        double ramped = rampUp.isZero() ? 0 : arrivalRate * rampSeconds * rampSeconds / (2 * rampUp.toNanos() / 1e9);
+        return (long) Math.ceil(ramped + arrivalRate * Math.max(0, seconds - rampSeconds));
+    }
+}
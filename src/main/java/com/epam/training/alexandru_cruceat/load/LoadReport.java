@@ -0,0 +1,163 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.metrics.LatencyHistogram;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Latency per step and throughput of a load run.
+ * User latency is measured from the time a user was due to start, so a generator that falls behind
+ * shows up as latency instead of silently lowering the load.
+ */
+public final class LoadReport {
+    private static final Logger logger = LoggerFactory.getLogger(LoadReport.class);
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final String[] QUANTILE_KEYS = {"p50", "p95", "p99"};
+    static final String USER_STEP = "user";
+
+    private final LoadProfile profile;
+    private final Map<String, LatencyHistogram> steps = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Run one step of a user and record its latency if it succeeds
+     * @param step step name
+     * @param action step to run
+     * @return step result
+     */
+    <T> T time(String step, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        histogram(step).record(System.nanoTime() - start);
+        return result;
+    }
+
+    void userStarted() {
+        started.increment();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    void userSucceeded(long intendedStartNanos) {
+        histogram(USER_STEP).record(System.nanoTime() - intendedStartNanos);
+        succeeded.increment();
+        inFlight.decrementAndGet();
+    }
+
+    void userFailed(Throwable error) {
+        errors.computeIfAbsent(String.valueOf(error.getMessage()), message -> new LongAdder()).increment();
+        failed.increment();
+        inFlight.decrementAndGet();
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * @return number of users that logged in and reached the inventory page
+     */
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    /**
+     * @return number of users that failed
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return completed users per second over the whole run
+     */
+    public double getThroughput() {
+        double seconds = ((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos) / 1e9;
+        return seconds > 0 ? (succeeded.sum() + failed.sum()) / seconds : 0;
+    }
+
+    /**
+     * Build a summary line for every step
+     * @return report text
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "Login load: %d started, %d succeeded, %d failed, %.1f users/s (target %d/s), max %d in flight",
+                started.sum(), succeeded.sum(), failed.sum(), getThroughput(), profile.arrivalRate(), maxInFlight.get()));
+        steps.forEach((step, histogram) -> summary.append(System.lineSeparator())
+                .append(String.format(Locale.ROOT, "  %-16s count=%d, p50=%.1fms, p95=%.1fms, p99=%.1fms, max=%.1fms",
+                        step, histogram.getCount(), histogram.getValueAtQuantile(0.5) / 1_000.0,
+                        histogram.getValueAtQuantile(0.95) / 1_000.0, histogram.getValueAtQuantile(0.99) / 1_000.0,
+                        histogram.getMaxMicros() / 1_000.0)));
+        errors.forEach((message, count) -> summary.append(System.lineSeparator())
+                .append("  error x").append(count.sum()).append(": ").append(message));
+        return summary.toString();
+    }
+
+    /**
+     * Write the report as JSON
+     * @param file target file
+     */
+    public void write(Path file) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("arrivalRate", profile.arrivalRate());
+        json.put("rampUpSeconds", profile.rampUp().toSeconds());
+        json.put("durationSeconds", profile.duration().toSeconds());
+        json.put("started", started.sum());
+        json.put("succeeded", succeeded.sum());
+        json.put("failed", failed.sum());
+        json.put("throughputPerSecond", getThroughput());
+        json.put("maxInFlight", maxInFlight.get());
+        List<Map<String, Object>> stepEntries = steps.entrySet().stream().map(entry -> {
+            LatencyHistogram histogram = entry.getValue();
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("name", entry.getKey());
+            step.put("count", histogram.getCount());
+            step.put("meanMs", histogram.getCount() == 0 ? 0 : histogram.getSumMicros() / 1_000.0 / histogram.getCount());
+            for (int i = 0; i < QUANTILES.length; i++) {
+                step.put(QUANTILE_KEYS[i] + "Ms", histogram.getValueAtQuantile(QUANTILES[i]) / 1_000.0);
+            }
+            step.put("maxMs", histogram.getMaxMicros() / 1_000.0);
+            return step;
+        }).toList();
+        json.put("steps", stepEntries);
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        errors.forEach((message, count) -> errorCounts.put(message, count.sum()));
+        json.put("errors", errorCounts);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new Json().toJson(json));
+            logger.info("Load report written to {}", file);
+        } catch (IOException e) {
+            logger.warn("Could not write load report to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private LatencyHistogram histogram(String step) {
+        return steps.computeIfAbsent(step, name -> new LatencyHistogram());
+    }
+}
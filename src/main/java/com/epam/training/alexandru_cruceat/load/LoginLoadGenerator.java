@@ -0,0 +1,118 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Browser-less load generator for the login flow.
+ * Every simulated user opens the login page, logs in and lands on the inventory page over HTTP, each on its own
+ * virtual thread. Users are started on the schedule of a {@link LoadProfile} (open model), so a slow server
+ * gets more users in flight instead of fewer requests.
+ */
+public final class LoginLoadGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(LoginLoadGenerator.class);
+    private static final Path REPORT_FILE = Path.of("target", "load", "login-load.json");
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    static final String OPEN_STEP = "open login page";
+    static final String LOGIN_STEP = "login";
+
+    private final LoadProfile profile;
+    private final String baseUrl;
+    private final List<String> usernames;
+    private final String password;
+
+    /**
+     * @param profile arrival schedule
+     * @param baseUrl URL of the application under test
+     * @param usernames usernames taken in turn by arriving users
+     * @param password password of every user
+     */
+    public LoginLoadGenerator(LoadProfile profile, String baseUrl, List<String> usernames, String password) {
+        if (usernames.isEmpty()) {
+            throw new IllegalArgumentException("At least one username is required");
+        }
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+        this.usernames = List.copyOf(usernames);
+        this.password = password;
+    }
+
+    /**
+     * Start users until the profile's duration ends and wait for all of them to finish
+     * @return latency and throughput of the run
+     */
+    public LoadReport run() {
+        logger.info("Starting about {} users against {}: {}", profile.totalArrivals(), baseUrl, profile);
+        LoadReport report = new LoadReport(profile);
+        long durationNanos = profile.duration().toNanos();
+        // Closed in reverse order: users in flight finish before the client shuts down
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+             ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long index = 0; ; index++) {
+                long offset = profile.offsetNanos(index);
+                if (offset >= durationNanos) {
+                    break;
+                }
+                long intendedStart = start + offset;
+                sleepUntil(intendedStart);
+                String username = usernames.get((int) (index % usernames.size()));
+                users.execute(() -> runUser(client, report, username, intendedStart));
+            }
+        }
+        report.finish();
+        return report;
+    }
+
+    private void runUser(HttpClient client, LoadReport report, String username, long intendedStart) {
+        report.userStarted();
+        try {
+            VirtualUser user = new VirtualUser(client, baseUrl);
+            HttpLoginPage loginPage = report.time(OPEN_STEP, () -> new HttpLoginPage(user).open());
+            HttpLoginResult result = report.time(LOGIN_STEP, () -> loginPage.login(username, password));
+            if (result instanceof HttpLoginResult.Failure failure) {
+                throw new IllegalStateException("Login failed: " + failure.loginPage().getErrorMessage());
+            }
+            report.userSucceeded(intendedStart);
+        } catch (RuntimeException e) {
+            logger.debug("User {} failed: {}", username, e.getMessage());
+            report.userFailed(e);
+        }
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Run the login load configured by the load.* settings and write target/load/login-load.json.
+     * With base.url=local it runs against the embedded stand-in server, so no network is needed.
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        LoadProfile profile = new LoadProfile(DriverConfig.getLoadArrivalRate(), DriverConfig.getLoadRampUp(),
+                DriverConfig.getLoadDuration());
+        LoadReport report = new LoginLoadGenerator(profile, DriverConfig.getBaseUrl(),
+                DriverConfig.getLoadUsers(), DriverConfig.getLoadPassword()).run();
+        logger.info("{}", report.getSummary());
+        report.write(REPORT_FILE);
+        // The stand-in server's threads would keep the JVM alive
+        System.exit(report.getSucceeded() > 0 ? 0 : 1);
+    }
+}
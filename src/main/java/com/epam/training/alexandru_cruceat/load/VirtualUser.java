@@ -0,0 +1,105 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP state of one simulated user: its cookies and the static resources its browser would have cached.
+ * Users share one HttpClient, so hundreds of them cost a few objects each instead of a browser each.
+ */
+public final class VirtualUser {
+    private static final Pattern SUBRESOURCE = Pattern.compile("<(?:script|link|img)\\b[^>]*?\\b(?:src|href)=\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final URI baseUrl;
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final Set<URI> cached = new HashSet<>();
+
+    /**
+     * @param client shared HTTP client
+     * @param baseUrl URL of the application under test
+     */
+    public VirtualUser(HttpClient client, String baseUrl) {
+        this.client = client;
+        this.baseUrl = URI.create(baseUrl);
+    }
+
+    /**
+     * Set a cookie, as the application's scripts do in the browser
+     * @param name cookie name
+     * @param value cookie value
+     */
+    public void setCookie(String name, String value) {
+        cookies.put(name, value);
+    }
+
+    /**
+     * Check if a cookie is set
+     * @param name cookie name
+     * @return true if the cookie is set
+     */
+    public boolean hasCookie(String name) {
+        return cookies.containsKey(name);
+    }
+
+    /**
+     * Load a page the way a browser does: the document, then every script, stylesheet and image
+     * it references that is not cached yet
+     * @param path path relative to the base URL
+     * @return document body
+     * @throws IllegalStateException if the document or a resource is not served
+     */
+    public String loadPage(String path) {
+        URI document = baseUrl.resolve(path);
+        String body = get(document);
+        Set<URI> resources = new LinkedHashSet<>();
+        Matcher matcher = SUBRESOURCE.matcher(body);
+        while (matcher.find()) {
+            resources.add(document.resolve(matcher.group(1)));
+        }
+        for (URI resource : resources) {
+            // Static resources are served with a max-age, so a browser fetches them once
+            if (cached.add(resource)) {
+                get(resource);
+            }
+        }
+        return body;
+    }
+
+    private String get(URI uri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(DriverConfig.getPageLoadTimeout())
+                .GET();
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("GET " + uri.getPath() + " returned " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UncheckedIOException("GET " + uri.getPath() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during GET " + uri.getPath(), e);
+        }
+    }
+}
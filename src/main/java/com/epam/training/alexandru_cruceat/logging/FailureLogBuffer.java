@@ -0,0 +1,147 @@
+package com.epam.training.alexandru_cruceat.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the most recent events of every thread in memory and writes them only when a test fails.
+ * Appending stores a reference in a per-thread ring, without locking or formatting, so the DEBUG
+ * output of passing tests costs almost nothing. Configured in logback.xml with a capacity and an encoder.
+ */
+public class FailureLogBuffer extends UnsynchronizedAppenderBase<ILoggingEvent> {
+    private static volatile FailureLogBuffer active;
+
+    private int capacity = 2_000;
+    private final ThreadLocal<Ring> rings = ThreadLocal.withInitial(() -> new Ring(capacity));
+    private Encoder<ILoggingEvent> encoder;
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "]");
+            return;
+        }
+        if (capacity < 1) {
+            addError("Capacity of the appender named [" + name + "] must be positive");
+            return;
+        }
+        encoder.start();
+        super.start();
+        active = this;
+    }
+
+    @Override
+    public void stop() {
+        if (active == this) {
+            active = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Thread name, MDC and message are filled in lazily; capture them now, since the flush happens later
+        event.prepareForDeferredProcessing();
+        rings.get().add(event);
+    }
+
+    /**
+     * Drop the events buffered by the current thread
+     */
+    static void discard() {
+        FailureLogBuffer buffer = active;
+        if (buffer != null) {
+            buffer.rings.get().clear();
+        }
+    }
+
+    /**
+     * Write the events buffered by the current thread to a file and drop them
+     * @param file file to write
+     * @return number of events written
+     * @throws IOException if the file cannot be written
+     */
+    static int flush(Path file) throws IOException {
+        FailureLogBuffer buffer = active;
+        if (buffer == null) {
+            return 0;
+        }
+        Ring ring = buffer.rings.get();
+        int written = ring.size();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out, buffer.encoder.headerBytes());
+            ring.forEach(event -> write(out, buffer.encoder.encode(event)));
+            write(out, buffer.encoder.footerBytes());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            ring.clear();
+        }
+        return written;
+    }
+
+    private static void write(OutputStream out, byte[] bytes) {
+        if (bytes == null) {
+            return;
+        }
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fixed-size buffer keeping the latest events of one thread
+     */
+    private static final class Ring {
+        private final ILoggingEvent[] events;
+        private int next;
+        private int size;
+
+        private Ring(int capacity) {
+            this.events = new ILoggingEvent[capacity];
+        }
+
+        private void add(ILoggingEvent event) {
+            events[next] = event;
+            next = (next + 1) % events.length;
+            size = Math.min(size + 1, events.length);
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void forEach(Consumer<ILoggingEvent> action) {
+            int first = (next - size + events.length) % events.length;
+            for (int i = 0; i < size; i++) {
+                action.accept(events[(first + i) % events.length]);
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(events, null);
+            next = 0;
+            size = 0;
+        }
+    }
+}
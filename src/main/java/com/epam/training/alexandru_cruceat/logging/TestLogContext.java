@@ -0,0 +1,87 @@
+package com.epam.training.alexandru_cruceat.logging;
+
+import ch.qos.logback.classic.ClassicConstants;
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tags the log events of the running test through MDC (test, testFile, thread, browser),
+ * so logback can route them to one file per test, and writes the buffered DEBUG events of failed tests
+ */
+public final class TestLogContext {
+    private static final Logger logger = LoggerFactory.getLogger(TestLogContext.class);
+    private static final Path LOGS_DIR = Path.of("target", "logs");
+    private static final int MAX_FILE_NAME_LENGTH = 80;
+
+    private TestLogContext() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start tagging the current thread's events with a test
+     * @param testName test display name
+     * @param uniqueId unique test id, keeps file names of tests with the same display name apart
+     */
+    public static void start(String testName, String uniqueId) {
+        MDC.put("test", testName);
+        MDC.put("testFile", fileNameOf(testName, uniqueId));
+        MDC.put("thread", Thread.currentThread().getName());
+        MDC.put("browser", DriverConfig.getBrowser());
+        FailureLogBuffer.discard();
+    }
+
+    /**
+     * Stop tagging the current thread's events and close the test's log file
+     * @param failed true to write the buffered DEBUG events to target/logs/&lt;test&gt;-debug.json
+     */
+    public static void finish(boolean failed) {
+        String testFile = MDC.get("testFile");
+        if (testFile == null) {
+            return;
+        }
+        try {
+            if (failed) {
+                Path debugFile = LOGS_DIR.resolve(testFile + "-debug.json");
+                int events = FailureLogBuffer.flush(debugFile);
+                logger.info("Test failed, wrote {} buffered log events to {}", events, debugFile);
+            } else {
+                FailureLogBuffer.discard();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not write buffered log events of {}: {}", testFile, e.getMessage());
+        } finally {
+            // Lets the sifting appender close the test's file instead of waiting for its idle timeout
+            logger.info(ClassicConstants.FINALIZE_SESSION_MARKER, "Finished {}", MDC.get("test"));
+            MDC.remove("test");
+            MDC.remove("testFile");
+            MDC.remove("thread");
+            MDC.remove("browser");
+        }
+    }
+
+    /**
+     * @return file name of the test running on the current thread, or null outside a test
+     */
+    public static String currentFileName() {
+        return MDC.get("testFile");
+    }
+
+    /**
+     * Build a file name for a test's logs and artifacts
+     * @param testName test display name
+     * @param uniqueId unique test id
+     * @return file name without extension
+     */
+    public static String fileNameOf(String testName, String uniqueId) {
+        String name = testName.replaceAll("[^A-Za-z0-9._-]+", "_");
+        if (name.length() > MAX_FILE_NAME_LENGTH) {
+            name = name.substring(0, MAX_FILE_NAME_LENGTH);
+        }
+        return name + "-" + Integer.toHexString(uniqueId.hashCode());
+    }
+}
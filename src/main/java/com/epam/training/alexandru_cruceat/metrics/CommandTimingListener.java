@@ -0,0 +1,78 @@
+package com.epam.training.alexandru_cruceat.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the latency of every call on a decorated driver and the objects it returns
+ * (elements, navigation, options) as COMMAND series named like "WebElement.click".
+ * Start times are kept in a per-thread array, so steady-state recording does not allocate.
+ */
+public class CommandTimingListener implements WebDriverListener {
+    private static final int MAX_DEPTH = 16;
+    private static final Map<Method, String> commandNames = new ConcurrentHashMap<>();
+    private static final ThreadLocal<CallStack> callStacks = ThreadLocal.withInitial(CallStack::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (method.getDeclaringClass() != Object.class) {
+            callStacks.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    private static void finish(Method method) {
+        if (method.getDeclaringClass() == Object.class) {
+            return;
+        }
+        long start = callStacks.get().pop();
+        if (start != 0) {
+            LatencyMetrics.record(LatencyMetrics.Kind.COMMAND, commandName(method), System.nanoTime() - start);
+        }
+    }
+
+    private static String commandName(Method method) {
+        String name = commandNames.get(method);
+        if (name == null) {
+            name = commandNames.computeIfAbsent(method,
+                    key -> key.getDeclaringClass().getSimpleName() + "." + key.getName());
+        }
+        return name;
+    }
+
+    /**
+     * Start times of the calls in progress on one thread
+     */
+    private static final class CallStack {
+        private final long[] starts = new long[MAX_DEPTH];
+        private int depth;
+
+        private void push(long start) {
+            if (depth < MAX_DEPTH) {
+                starts[depth] = start;
+            }
+            depth++;
+        }
+
+        private long pop() {
+            if (depth == 0) {
+                return 0;
+            }
+            depth--;
+            return depth < MAX_DEPTH ? starts[depth] : 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.epam.training.alexandru_cruceat.metrics;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Latency histograms per WebDriver command, page-object method, wait and driver creation,
+ * tagged with test name, thread and browser.
+ * Each thread records into its own histograms for the current test, so the hot path is two map
+ * lookups and a histogram update; series are registered once and exported at the end of the run.
+ * With metrics.per.test=false, a test's series are merged into one series per name when it ends,
+ * and values recorded outside tests go straight to those, so memory does not grow with the number of tests.
+ */
+public final class LatencyMetrics {
+    private static final Logger logger = LoggerFactory.getLogger(LatencyMetrics.class);
+    private static final String NO_TEST = "none";
+    private static final String ALL = "all";
+
+    private static final Queue<Series> series = new ConcurrentLinkedQueue<>();
+    private static final Map<SeriesKey, Series> merged = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ThreadMetrics> threadMetrics = ThreadLocal.withInitial(() -> new ThreadMetrics(NO_TEST));
+    private static final ClassValue<Map<String, String>> pageMethodNames = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * What a series measures
+     */
+    public enum Kind {
+        COMMAND, PAGE, WAIT, DRIVER
+    }
+
+    /**
+     * One exported histogram with its tags
+     * @param kind what is measured
+     * @param name command, page method, wait kind or creation mode
+     * @param test test the values were recorded in, or "none" outside of tests
+     * @param thread thread the values were recorded on
+     * @param browser configured browser
+     * @param histogram recorded values
+     */
+    public record Series(Kind kind, String name, String test, String thread, String browser, LatencyHistogram histogram) {
+    }
+
+    private record SeriesKey(Kind kind, String name, String browser) {
+    }
+
+    private LatencyMetrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Tag values recorded on the current thread with a test name until {@link #endTest()}
+     * @param testName test name
+     */
+    public static void startTest(String testName) {
+        threadMetrics.set(new ThreadMetrics(testName));
+    }
+
+    /**
+     * Stop tagging values recorded on the current thread with the current test
+     */
+    public static void endTest() {
+        ThreadMetrics finished = threadMetrics.get();
+        threadMetrics.remove();
+        if (!DriverConfig.isMetricsPerTest()) {
+            for (Series testSeries : finished.owned) {
+                mergedSeries(testSeries.kind(), testSeries.name(), testSeries.browser()).histogram().add(testSeries.histogram());
+                series.remove(testSeries);
+            }
+        }
+    }
+
+    /**
+     * Record a latency on the current thread
+     * @param kind what is measured
+     * @param name series name; pass the same String instance for the same series to keep lookups cheap
+     * @param elapsedNanos elapsed time in nanoseconds
+     */
+    public static void record(Kind kind, String name, long elapsedNanos) {
+        if (DriverConfig.isMetricsEnabled()) {
+            threadMetrics.get().histogram(kind, name).record(elapsedNanos);
+        }
+    }
+
+    /**
+     * Record the latency of a page-object method, named after the concrete page class
+     * @param page page class
+     * @param method method name
+     * @param startNanos System.nanoTime() when the method started
+     */
+    public static void recordPageMethod(Class<?> page, String method, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        Map<String, String> names = pageMethodNames.get(page);
+        String name = names.get(method);
+        if (name == null) {
+            name = names.computeIfAbsent(method, key -> page.getSimpleName() + "." + key);
+        }
+        record(Kind.PAGE, name, elapsed);
+    }
+
+    /**
+     * Get every series recorded so far
+     * @return recorded series
+     */
+    public static List<Series> getSeries() {
+        return List.copyOf(series);
+    }
+
+    /**
+     * Write all series as latency.json and latency.prom into a directory.
+     * Surefire forks set fork.suffix, e.g. latency-1.json, so they do not overwrite each other.
+     * @param directory target directory, created if missing
+     */
+    public static void export(Path directory) {
+        List<Series> snapshot = getSeries();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            String suffix = System.getProperty("fork.suffix", "");
+            Files.writeString(directory.resolve("latency" + suffix + ".json"), MetricsExporter.toJson(snapshot));
+            Files.writeString(directory.resolve("latency" + suffix + ".prom"), MetricsExporter.toPrometheus(snapshot));
+            logger.info("Wrote {} latency series to {}", snapshot.size(), directory.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export latency metrics to " + directory, e);
+        }
+    }
+
+    private static Series mergedSeries(Kind kind, String name, String browser) {
+        return merged.computeIfAbsent(new SeriesKey(kind, name, browser), key -> {
+            Series mergedSeries = new Series(kind, name, ALL, ALL, browser, new LatencyHistogram());
+            series.add(mergedSeries);
+            return mergedSeries;
+        });
+    }
+
+    /**
+     * Histograms of the current test on one thread
+     */
+    private static final class ThreadMetrics {
+        private final String test;
+        private final String thread = Thread.currentThread().getName();
+        private final String browser = DriverConfig.getBrowser();
+        private final Map<Kind, Map<String, LatencyHistogram>> histograms = new EnumMap<>(Kind.class);
+        private final List<Series> owned = new ArrayList<>();
+
+        private ThreadMetrics(String test) {
+            this.test = test;
+            for (Kind kind : Kind.values()) {
+                histograms.put(kind, new HashMap<>());
+            }
+        }
+
+        private LatencyHistogram histogram(Kind kind, String name) {
+            Map<String, LatencyHistogram> byName = histograms.get(kind);
+            LatencyHistogram histogram = byName.get(name);
+            if (histogram == null) {
+                if (NO_TEST.equals(test) && !DriverConfig.isMetricsPerTest()) {
+                    histogram = mergedSeries(kind, name, browser).histogram();
+                } else {
+                    histogram = new LatencyHistogram();
+                    Series testSeries = new Series(kind, name, test, thread, browser, histogram);
+                    owned.add(testSeries);
+                    series.add(testSeries);
+                }
+                byName.put(name, histogram);
+            }
+            return histogram;
+        }
+    }
+}
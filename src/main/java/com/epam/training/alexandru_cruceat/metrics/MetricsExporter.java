@@ -0,0 +1,88 @@
+package com.epam.training.alexandru_cruceat.metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Formats latency series as JSON and Prometheus text exposition format
+ */
+final class MetricsExporter {
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+    private static final String[] QUANTILE_KEYS = {"p50", "p95", "p99"};
+
+    private MetricsExporter() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param series recorded series
+     * @return JSON array with count, sum, percentiles and max in milliseconds per series
+     */
+    static String toJson(List<LatencyMetrics.Series> series) {
+        List<Map<String, Object>> entries = series.stream().map(entry -> {
+            LatencyHistogram histogram = entry.histogram();
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("kind", entry.kind().name().toLowerCase(Locale.ROOT));
+            json.put("name", entry.name());
+            json.put("test", entry.test());
+            json.put("thread", entry.thread());
+            json.put("browser", entry.browser());
+            json.put("count", histogram.getCount());
+            json.put("sumMs", histogram.getSumMicros() / 1_000.0);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                json.put(QUANTILE_KEYS[i] + "Ms", histogram.getValueAtQuantile(QUANTILES[i]) / 1_000.0);
+            }
+            json.put("maxMs", histogram.getMaxMicros() / 1_000.0);
+            return json;
+        }).toList();
+        return new Json().toJson(entries);
+    }
+
+    /**
+     * @param series recorded series
+     * @return one summary metric per kind with quantile, _sum, _count and _max samples in seconds
+     */
+    static String toPrometheus(List<LatencyMetrics.Series> series) {
+        StringBuilder text = new StringBuilder();
+        for (LatencyMetrics.Kind kind : LatencyMetrics.Kind.values()) {
+            String metric = "webdriver_" + kind.name().toLowerCase(Locale.ROOT) + "_latency_seconds";
+            List<LatencyMetrics.Series> ofKind = series.stream().filter(entry -> entry.kind() == kind).toList();
+            if (ofKind.isEmpty()) {
+                continue;
+            }
+            text.append("# TYPE ").append(metric).append(" summary\n");
+            for (LatencyMetrics.Series entry : ofKind) {
+                String labels = labels(entry);
+                LatencyHistogram histogram = entry.histogram();
+                for (double quantile : QUANTILES) {
+                    sample(text, metric, labels + ",quantile=\"" + quantile + "\"", histogram.getValueAtQuantile(quantile));
+                }
+                sample(text, metric + "_sum", labels, histogram.getSumMicros());
+                text.append(metric).append("_count{").append(labels).append("} ").append(histogram.getCount()).append('\n');
+            }
+            text.append("# TYPE ").append(metric).append("_max gauge\n");
+            for (LatencyMetrics.Series entry : ofKind) {
+                sample(text, metric + "_max", labels(entry), entry.histogram().getMaxMicros());
+            }
+        }
+        return text.toString();
+    }
+
+    private static String labels(LatencyMetrics.Series entry) {
+        return "name=\"" + escape(entry.name()) + "\",test=\"" + escape(entry.test())
+                + "\",thread=\"" + escape(entry.thread()) + "\",browser=\"" + escape(entry.browser()) + "\"";
+    }
+
+    private static void sample(StringBuilder text, String metric, String labels, long micros) {
+        text.append(metric).append('{').append(labels).append("} ")
+                .append(String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0)).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
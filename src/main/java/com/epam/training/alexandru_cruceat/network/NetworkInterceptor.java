@@ -0,0 +1,208 @@
+package com.epam.training.alexandru_cruceat.network;
+
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.bidi.network.ProvideResponseParameters;
+import org.openqa.selenium.bidi.network.UrlPattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Blocks or stubs requests of a driver session through WebDriver BiDi network interception.
+ * Rules start from config.properties and can be overridden per test; overrides are reset
+ * when the session goes back to the pool. Only the requests the rules can act on are paused
+ * where the rules allow narrowing them down, see {@link NetworkRules#interceptPatterns()}.
+ */
+public final class NetworkInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkInterceptor.class);
+    private static final int MAX_OBSERVED_SIZES = 1_000;
+
+    private static final Map<WebDriver, NetworkInterceptor> interceptors = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final NetworkRules configuredRules = NetworkRules.fromConfig();
+
+    private static final Map<ResourceType, LongAdder> blockedByType = new EnumMap<>(ResourceType.class);
+    private static final LongAdder stubbed = new LongAdder();
+    private static final LongAdder continued = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+    private static final LongAdder sizeUnknown = new LongAdder();
+    // Sizes of the latest responses, used to estimate bytes saved when a URL seen while allowed is blocked later
+    private static final Map<String, Long> observedSizes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > MAX_OBSERVED_SIZES;
+                }
+            });
+
+    static {
+        for (ResourceType type : ResourceType.values()) {
+            blockedByType.put(type, new LongAdder());
+        }
+        ShutdownSequence.register(ShutdownSequence.Phase.STATISTICS, "network statistics", NetworkInterceptor::logStatistics);
+    }
+
+    private final Network network;
+    private volatile NetworkRules rules = configuredRules;
+    private String interceptId;
+
+    private NetworkInterceptor(Network network) {
+        this.network = network;
+    }
+
+    /**
+     * Start intercepting requests of a freshly created driver
+     * @param rawDriver driver with BiDi enabled, before any decoration
+     * @param driver driver instance handed out to tests
+     */
+    public static void install(WebDriver rawDriver, WebDriver driver) {
+        Network network = new Network(rawDriver);
+        NetworkInterceptor interceptor = new NetworkInterceptor(network);
+        interceptor.intercept(configuredRules);
+        network.onBeforeRequestSent(interceptor::handle);
+        network.onResponseCompleted(response -> observedSizes.put(
+                response.getResponseData().getUrl(), response.getResponseData().getBytesReceived()));
+        interceptors.put(driver, interceptor);
+        logger.debug("Installed network interception");
+    }
+
+    /**
+     * Replace the rules of a driver for the current test
+     * @param driver driver handed out by DriverManager
+     * @param override function deriving the new rules from the configured ones
+     */
+    public static void override(WebDriver driver, UnaryOperator<NetworkRules> override) {
+        NetworkInterceptor interceptor = interceptors.get(driver);
+        if (interceptor == null) {
+            logger.warn("Network interception is not enabled for this driver, override ignored");
+            return;
+        }
+        interceptor.apply(override.apply(configuredRules));
+    }
+
+    /**
+     * Go back to the configured rules
+     * @param driver driver handed out by DriverManager
+     */
+    public static void resetOverrides(WebDriver driver) {
+        NetworkInterceptor interceptor = interceptors.get(driver);
+        if (interceptor != null && interceptor.rules != configuredRules) {
+            interceptor.apply(configuredRules);
+        }
+    }
+
+    /**
+     * Stop tracking a driver that is being quit
+     * @param driver driver handed out by DriverManager
+     */
+    public static void uninstall(WebDriver driver) {
+        NetworkInterceptor interceptor = interceptors.remove(driver);
+        if (interceptor != null) {
+            try {
+                interceptor.network.close();
+            } catch (WebDriverException e) {
+                logger.debug("Error closing network module: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Build a summary of blocked requests
+     * @return statistics line
+     */
+    public static String getStatistics() {
+        StringBuilder blocked = new StringBuilder();
+        blockedByType.forEach((type, count) -> {
+            if (count.sum() > 0) {
+                blocked.append(blocked.isEmpty() ? "" : ", ").append(type.name().toLowerCase()).append('=').append(count.sum());
+            }
+        });
+        return String.format("blocked={%s}, stubbed=%d, continued=%d, estimatedBytesSaved=%d (size unknown for %d)",
+                blocked, stubbed.sum(), continued.sum(), bytesSaved.sum(), sizeUnknown.sum());
+    }
+
+    private static void logStatistics() {
+        if (!interceptors.isEmpty() || continued.sum() > 0) {
+            logger.info("Network interception statistics: {}", getStatistics());
+        }
+    }
+
+    private synchronized void apply(NetworkRules newRules) {
+        rules = newRules;
+        try {
+            if (interceptId != null) {
+                network.removeIntercept(interceptId);
+                interceptId = null;
+            }
+            intercept(newRules);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to update network interception: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Ask the browser to pause the requests the rules can act on
+     */
+    private void intercept(NetworkRules newRules) {
+        AddInterceptParameters parameters = new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT);
+        Optional<List<UrlPattern>> patterns = newRules.interceptPatterns();
+        if (patterns.isPresent() && patterns.get().isEmpty()) {
+            return;
+        }
+        patterns.ifPresent(parameters::urlPatterns);
+        interceptId = network.addIntercept(parameters);
+    }
+
+    private static void recordSaved(String url) {
+        Long size = observedSizes.get(url);
+        if (size != null) {
+            bytesSaved.add(size);
+        } else {
+            sizeUnknown.increment();
+        }
+    }
+
+    private void handle(BeforeRequestSent event) {
+        if (!event.isBlocked()) {
+            return;
+        }
+        String requestId = event.getRequest().getRequestId();
+        String url = event.getRequest().getUrl();
+        ResourceType type = ResourceType.fromUrl(url);
+        try {
+            switch (rules.decide(url, type)) {
+                case BLOCK -> {
+                    blockedByType.get(type).increment();
+                    recordSaved(url);
+                    network.failRequest(requestId);
+                }
+                case STUB -> {
+                    stubbed.increment();
+                    recordSaved(url);
+                    network.provideResponse(new ProvideResponseParameters(requestId).statusCode(204));
+                }
+                case CONTINUE -> {
+                    continued.increment();
+                    network.continueRequest(new ContinueRequestParameters(requestId));
+                }
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Failed to handle intercepted request {}: {}", url, e.getMessage());
+        }
+    }
+}
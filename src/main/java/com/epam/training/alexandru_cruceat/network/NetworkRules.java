@@ -0,0 +1,167 @@
+package com.epam.training.alexandru_cruceat.network;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openqa.selenium.bidi.network.UrlPattern;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable set of allow, deny and stub rules for intercepted requests.
+ * Allow patterns win over everything else, then stub patterns, then deny patterns and blocked types.
+ */
+public final class NetworkRules {
+
+    /**
+     * What to do with an intercepted request
+     */
+    public enum Action { CONTINUE, BLOCK, STUB }
+
+    // Glob starting with a literal scheme and host, e.g. https://ads.example.com/*
+    private static final Pattern HOST_GLOB = Pattern.compile("(https?)://([^/*:]+)(?::(\\d+))?(?:/.*)?");
+
+    private final Set<ResourceType> blockedTypes;
+    private final List<String> allowGlobs;
+    private final List<String> denyGlobs;
+    private final List<String> stubGlobs;
+    private final List<Pattern> allowPatterns;
+    private final List<Pattern> denyPatterns;
+    private final List<Pattern> stubPatterns;
+
+    private NetworkRules(Set<ResourceType> blockedTypes, List<String> allowGlobs,
+                         List<String> denyGlobs, List<String> stubGlobs) {
+        this.blockedTypes = blockedTypes.isEmpty() ? EnumSet.noneOf(ResourceType.class) : EnumSet.copyOf(blockedTypes);
+        this.allowGlobs = List.copyOf(allowGlobs);
+        this.denyGlobs = List.copyOf(denyGlobs);
+        this.stubGlobs = List.copyOf(stubGlobs);
+        this.allowPatterns = globs(this.allowGlobs);
+        this.denyPatterns = globs(this.denyGlobs);
+        this.stubPatterns = globs(this.stubGlobs);
+    }
+
+    /**
+     * Build rules from config.properties
+     * @return configured rules
+     */
+    public static NetworkRules fromConfig() {
+        Set<ResourceType> types = EnumSet.noneOf(ResourceType.class);
+        DriverConfig.getNetworkBlockTypes().forEach(type -> types.add(ResourceType.fromName(type)));
+        return new NetworkRules(types, DriverConfig.getNetworkAllowUrls(),
+                DriverConfig.getNetworkBlockUrls(), DriverConfig.getNetworkStubUrls());
+    }
+
+    /**
+     * Get the requests the browser has to pause so these rules can be applied.
+     * Blocked resource types, and globs not starting with a literal scheme and host, need every request.
+     * @return BiDi URL patterns to intercept, empty if nothing needs intercepting;
+     * no value if every request has to be intercepted
+     */
+    public Optional<List<UrlPattern>> interceptPatterns() {
+        if (!blockedTypes.isEmpty()) {
+            return Optional.empty();
+        }
+        List<UrlPattern> patterns = new ArrayList<>();
+        for (String glob : concat(denyGlobs, stubGlobs.toArray(String[]::new))) {
+            Matcher host = HOST_GLOB.matcher(glob);
+            if (!host.matches()) {
+                return Optional.empty();
+            }
+            UrlPattern pattern = new UrlPattern().protocol(host.group(1)).hostname(host.group(2));
+            patterns.add(host.group(3) != null ? pattern.port(host.group(3)) : pattern);
+        }
+        return Optional.of(patterns);
+    }
+
+    /**
+     * Decide what to do with a request
+     * @param url request URL
+     * @param type resource type of the request
+     * @return action to take
+     */
+    public Action decide(String url, ResourceType type) {
+        if (matches(allowPatterns, url)) {
+            return Action.CONTINUE;
+        }
+        if (matches(stubPatterns, url)) {
+            return Action.STUB;
+        }
+        if (blockedTypes.contains(type) || matches(denyPatterns, url)) {
+            return Action.BLOCK;
+        }
+        return Action.CONTINUE;
+    }
+
+    /**
+     * Copy of these rules that also allows the given URL globs
+     * @param globs URL glob patterns
+     * @return new rules
+     */
+    public NetworkRules allowing(String... globs) {
+        return new NetworkRules(blockedTypes, concat(allowGlobs, globs), denyGlobs, stubGlobs);
+    }
+
+    /**
+     * Copy of these rules that also blocks the given URL globs
+     * @param globs URL glob patterns
+     * @return new rules
+     */
+    public NetworkRules blocking(String... globs) {
+        return new NetworkRules(blockedTypes, allowGlobs, concat(denyGlobs, globs), stubGlobs);
+    }
+
+    /**
+     * Copy of these rules that also stubs the given URL globs
+     * @param globs URL glob patterns
+     * @return new rules
+     */
+    public NetworkRules stubbing(String... globs) {
+        return new NetworkRules(blockedTypes, allowGlobs, denyGlobs, concat(stubGlobs, globs));
+    }
+
+    /**
+     * Copy of these rules with a different set of blocked resource types
+     * @param types resource types to block
+     * @return new rules
+     */
+    public NetworkRules blockingTypes(Set<ResourceType> types) {
+        return new NetworkRules(types, allowGlobs, denyGlobs, stubGlobs);
+    }
+
+    private static boolean matches(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> concat(List<String> globs, String... more) {
+        List<String> combined = new ArrayList<>(globs);
+        combined.addAll(List.of(more));
+        return combined;
+    }
+
+    /**
+     * Convert URL globs where * matches any sequence of characters
+     */
+    private static List<Pattern> globs(List<String> globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            StringBuilder regex = new StringBuilder();
+            for (String part : glob.split("\\*", -1)) {
+                if (!regex.isEmpty()) {
+                    regex.append(".*");
+                }
+                regex.append(Pattern.quote(part));
+            }
+            patterns.add(Pattern.compile(regex.toString()));
+        }
+        return List.copyOf(patterns);
+    }
+}
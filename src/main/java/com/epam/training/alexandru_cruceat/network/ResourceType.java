@@ -0,0 +1,50 @@
+package com.epam.training.alexandru_cruceat.network;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Resource type of a request, derived from the URL path
+ */
+public enum ResourceType {
+    IMAGE, FONT, MEDIA, STYLESHEET, SCRIPT, OTHER;
+
+    /**
+     * Classify a request URL by its file extension
+     * @param url request URL
+     * @return resource type
+     */
+    public static ResourceType fromUrl(String url) {
+        String path = url.toLowerCase(Locale.ROOT);
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+        int extensionStart = path.lastIndexOf('.');
+        if (extensionStart < 0 || extensionStart < path.lastIndexOf('/')) {
+            return OTHER;
+        }
+        return switch (path.substring(extensionStart + 1)) {
+            case "png", "jpg", "jpeg", "gif", "svg", "webp", "ico", "avif" -> IMAGE;
+            case "woff", "woff2", "ttf", "otf", "eot" -> FONT;
+            case "mp4", "webm", "mp3", "ogg", "wav" -> MEDIA;
+            case "css" -> STYLESHEET;
+            case "js", "mjs" -> SCRIPT;
+            default -> OTHER;
+        };
+    }
+
+    /**
+     * Parse a configured type name
+     * @param name type name, case insensitive
+     * @return resource type
+     */
+    public static ResourceType fromName(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown resource type '" + name + "', expected one of "
+                    + Arrays.toString(values()), e);
+        }
+    }
+}
@@ -1,23 +1,103 @@
 package com.epam.training.alexandru_cruceat.pages;
 
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.impact.TestImpact;
+import com.epam.training.alexandru_cruceat.metrics.LatencyMetrics;
 import com.epam.training.alexandru_cruceat.utils.DriverManager;
+import com.epam.training.alexandru_cruceat.utils.ScriptLocators;
 import com.epam.training.alexandru_cruceat.utils.WaitUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
- * Base class for all page objects using Page Factory
+ * Base class for all page objects.
+ * Fields annotated with @FindBy are bound by a compile-time generated binder, or by Page Factory for pages without one,
+ * and resolve their elements through a per-page {@link ElementCache}.
  */
 public abstract  class BasePage {
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
+
+    // Returns {name: {present, displayed, enabled, text, attributes}} for every [name, locator] pair
+    private static final String SNAPSHOT_SCRIPT = ScriptLocators.FIND_FUNCTION + """
+            var queries = arguments[0], attributeNames = arguments[1], result = {};
+            for (var i = 0; i < queries.length; i++) {
+                var element = find(queries[i][1]);
+                if (!element) {
+                    result[queries[i][0]] = {present: false};
+                    continue;
+                }
+                var style = window.getComputedStyle(element), rect = element.getBoundingClientRect();
+                var attributes = {};
+                for (var j = 0; j < attributeNames.length; j++) {
+                    var value = element.getAttribute(attributeNames[j]);
+                    if (value !== null) attributes[attributeNames[j]] = value;
+                }
+                result[queries[i][0]] = {
+                    present: true,
+                    displayed: style.display !== 'none' && style.visibility !== 'hidden'
+                            && style.opacity !== '0' && rect.width > 0 && rect.height > 0,
+                    enabled: !element.disabled,
+                    text: (element.innerText || '').trim(),
+                    attributes: attributes
+                };
+            }
+            return result;
+            """;
+
+    // Sets each [name, locator, value] through the native value setter so frameworks such as React see the change.
+    // Returns the names of fields that were not found or not visible.
+    private static final String FILL_FORM_SCRIPT = ScriptLocators.FIND_FUNCTION + """
+            var fields = arguments[0], skipped = [];
+            for (var i = 0; i < fields.length; i++) {
+                var element = find(fields[i][1]);
+                if (!element || element.getClientRects().length === 0) {
+                    skipped.push(fields[i][0]);
+                    continue;
+                }
+                var prototype = element instanceof HTMLTextAreaElement
+                        ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+                element.focus();
+                Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, fields[i][2]);
+                element.dispatchEvent(new Event('input', {bubbles: true}));
+                element.dispatchEvent(new Event('change', {bubbles: true}));
+                element.blur();
+            }
+            return skipped;
+            """;
+
+    // Marks the current document unless navigating to arguments[0] only changes the fragment,
+    // which keeps the document, so the marker would never go away
+    private static final String NAVIGATION_MARKER_SCRIPT = """
+            var target = new URL(arguments[0], location.href);
+            if (!target.hash || target.href.split('#')[0] !== location.href.split('#')[0]) {
+                window.__navigationMarker = true;
+            }
+            """;
+
     protected WebDriver driver;
+    private final ElementCache elements;
 
+    /**
+     * Bind the page's @FindBy fields to the current driver.
+     * Binding passes this page to the generated binder before subclass constructors run; that is safe because
+     * the binder only assigns the @FindBy fields and their elements are resolved lazily on first use.
+     * Subclasses must therefore not give @FindBy fields an initializer, which would overwrite the bound value.
+     */
+    @SuppressWarnings("this-escape")
     public BasePage() {
         this.driver = DriverManager.getDriver();
-        PageFactory.initElements(driver, this);
+        this.elements = new ElementCache(driver, DriverConfig.isElementCacheEnabled());
+        PageLocators.bind(this, elements);
+        TestImpact.record();
         logger.debug("Initialized page object: {}", this.getClass().getSimpleName());
     }
 
@@ -30,12 +110,58 @@ public abstract  class BasePage {
     }
 
     /**
-     * Navigate to a URL
+     * Navigate to a URL.
+     * With the eager or none page load strategy, returns once the page's readiness probes hold
+     * instead of waiting for every subresource.
      * @param url URL to navigate to
      */
     public void navigateTo(String url) {
-        logger.info("Navigating to: {}", url);
-        driver.get(url);
+        long start = System.nanoTime();
+        try {
+            logger.info("Navigating to: {}", url);
+            boolean probeReadiness = !"normal".equals(DriverConfig.getPageLoadStrategy());
+            if (probeReadiness) {
+                // Marks the current document so probes are never evaluated against the page being left
+                ((JavascriptExecutor) driver).executeScript(NAVIGATION_MARKER_SCRIPT, url);
+            }
+            elements.invalidate();
+            driver.get(url);
+            if (probeReadiness) {
+                waitUntilReady();
+            }
+        } finally {
+            LatencyMetrics.recordPageMethod(getClass(), "navigateTo", start);
+            TestImpact.record();
+        }
+    }
+
+    /**
+     * Readiness probes of this page, checked after navigation.
+     * Pages override this to declare the element or signal that makes them usable.
+     * @return readiness probes
+     */
+    protected List<ReadinessProbe> readinessProbes() {
+        return List.of(ReadinessProbe.documentState("interactive"));
+    }
+
+    /**
+     * Wait until every readiness probe of this page holds
+     */
+    protected void waitUntilReady() {
+        List<ReadinessProbe> probes = readinessProbes();
+        List<List<Object>> scriptProbes = probes.stream().map(ReadinessProbe::toScript).toList();
+        WaitUtils.waitUntil(driver, getClass().getSimpleName() + " ready: " + probes.stream()
+                .map(ReadinessProbe::description).toList(), d -> Boolean.TRUE.equals(
+                ((JavascriptExecutor) d).executeScript(ReadinessProbe.READINESS_SCRIPT, scriptProbes)));
+    }
+
+    /**
+     * Get the locator of a @FindBy field of this page
+     * @param fieldName name of the @FindBy field
+     * @return field locator
+     */
+    protected By locatorOf(String fieldName) {
+        return PageLocators.of(getClass(), fieldName);
     }
 
     /**
@@ -43,8 +169,13 @@ public abstract  class BasePage {
      * @param element element to click
      */
     protected void click(WebElement element) {
-        logger.debug("Clicking on element: {}", element);
-        WaitUtils.waitForElementClickable(driver, element).click();
+        long start = System.nanoTime();
+        try {
+            logger.debug("Clicking on element: {}", element);
+            WaitUtils.waitForElementClickable(driver, element).click();
+        } finally {
+            LatencyMetrics.recordPageMethod(getClass(), "click", start);
+        }
     }
 
     /**
@@ -53,10 +184,49 @@ public abstract  class BasePage {
      * @param text text to type
      */
     protected void type(WebElement element, String text) {
-        logger.debug("Typing '{}' into element: {}", text, element);
-        WebElement visibleElement = WaitUtils.waitForElementVisible(driver, element);
-        visibleElement.clear();
-        visibleElement.sendKeys(text);
+        long start = System.nanoTime();
+        try {
+            logger.debug("Typing '{}' into element: {}", text, element);
+            WebElement visibleElement = WaitUtils.waitForElementVisible(driver, element);
+            visibleElement.clear();
+            visibleElement.sendKeys(text);
+        } finally {
+            LatencyMetrics.recordPageMethod(getClass(), "type", start);
+        }
+    }
+
+    /**
+     * Fill several @FindBy fields of this page.
+     * In fast form-fill mode all values are set in one script call; fields marked with
+     * {@link RequiresKeystrokes} and fields that are not ready yet are typed with real keystrokes.
+     * @param valuesByField values keyed by @FindBy field name, filled in iteration order
+     */
+    @SuppressWarnings("unchecked")
+    protected void fillForm(Map<String, String> valuesByField) {
+        TestImpact.record();
+        List<String> keystrokeFields = new ArrayList<>();
+        List<List<Object>> scriptFields = new ArrayList<>();
+
+        valuesByField.forEach((fieldName, value) -> {
+            List<String> scriptLocator = ScriptLocators.toScript(PageLocators.of(getClass(), fieldName));
+            if (!DriverConfig.isFastFormFill() || scriptLocator == null
+                    || PageLocators.requiresKeystrokes(getClass(), fieldName)) {
+                keystrokeFields.add(fieldName);
+            } else {
+                scriptFields.add(List.of(fieldName, scriptLocator, value));
+            }
+        });
+
+        if (!scriptFields.isEmpty()) {
+            logger.debug("Fast-filling fields: {}", scriptFields.stream().map(List::getFirst).toList());
+            keystrokeFields.addAll((List<String>) ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, scriptFields));
+        }
+
+        for (String fieldName : valuesByField.keySet()) {
+            if (keystrokeFields.contains(fieldName)) {
+                type(PageBinder.locate(elements, PageLocators.of(getClass(), fieldName)), valuesByField.get(fieldName));
+            }
+        }
     }
 
     /**
@@ -64,8 +234,13 @@ public abstract  class BasePage {
      * @param element element to clear
      */
     protected void clear(WebElement element) {
-        logger.debug("Clearing text from element: {}", element);
-        WaitUtils.waitForElementVisible(driver, element).clear();
+        long start = System.nanoTime();
+        try {
+            logger.debug("Clearing text from element: {}", element);
+            WaitUtils.waitForElementVisible(driver, element).clear();
+        } finally {
+            LatencyMetrics.recordPageMethod(getClass(), "clear", start);
+        }
     }
 
     /**
@@ -74,7 +249,12 @@ public abstract  class BasePage {
      * @return element text
      */
     protected String getText(WebElement element) {
-        return WaitUtils.waitForElementVisible(driver, element).getText();
+        long start = System.nanoTime();
+        try {
+            return WaitUtils.waitForElementVisible(driver, element).getText();
+        } finally {
+            LatencyMetrics.recordPageMethod(getClass(), "getText", start);
+        }
     }
 
     /**
@@ -89,4 +269,50 @@ public abstract  class BasePage {
             return false;
         }
     }
+
+    /**
+     * Read the state of several @FindBy fields of this page in one round-trip
+     * @param fieldNames names of the @FindBy fields to read
+     * @return snapshot keyed by field name
+     */
+    protected PageSnapshot snapshot(String... fieldNames) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            locators.put(fieldName, PageLocators.of(getClass(), fieldName));
+        }
+        return snapshot(locators, List.of());
+    }
+
+    /**
+     * Read visibility, text, enabled state and attributes of many elements in one round-trip
+     * @param locators locators keyed by the name used in the snapshot
+     * @param attributes attribute names to read for every element
+     * @return snapshot keyed by locator name
+     */
+    @SuppressWarnings("unchecked")
+    protected PageSnapshot snapshot(Map<String, By> locators, List<String> attributes) {
+        TestImpact.record();
+        List<List<Object>> queries = new ArrayList<>();
+        locators.forEach((name, locator) -> {
+            List<String> scriptLocator = ScriptLocators.toScript(locator);
+            if (scriptLocator == null) {
+                throw new IllegalArgumentException("Locator cannot be queried in batch: " + locator);
+            }
+            queries.add(List.of(name, scriptLocator));
+        });
+
+        Map<String, Map<String, Object>> raw = (Map<String, Map<String, Object>>)
+                ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, queries, attributes);
+
+        Map<String, ElementSnapshot> snapshots = new LinkedHashMap<>();
+        raw.forEach((name, state) -> snapshots.put(name, Boolean.TRUE.equals(state.get("present"))
+                ? new ElementSnapshot(true,
+                        Boolean.TRUE.equals(state.get("displayed")),
+                        Boolean.TRUE.equals(state.get("enabled")),
+                        String.valueOf(state.get("text")),
+                        (Map<String, String>) state.get("attributes"))
+                : ElementSnapshot.ABSENT));
+        logger.debug("Snapshot of {}: {}", getClass().getSimpleName(), snapshots);
+        return new PageSnapshot(snapshots);
+    }
 }
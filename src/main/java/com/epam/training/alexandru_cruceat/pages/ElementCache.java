@@ -0,0 +1,96 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Element handles resolved by one page instance, keyed by locator.
+ * Page fields search through this cache, so a wait followed by an action finds the element once.
+ * Handles are dropped when the page navigates; stale handles are re-resolved by {@link LocatedElement}.
+ * Like the page it belongs to, a cache is used by one thread.
+ */
+final class ElementCache implements SearchContext {
+    private static final Logger logger = LoggerFactory.getLogger(ElementCache.class);
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder lookups = new LongAdder();
+    private static final LongAdder staleRefreshes = new LongAdder();
+
+    static {
+        ShutdownSequence.register(ShutdownSequence.Phase.STATISTICS, "element cache statistics", ElementCache::logStatistics);
+    }
+
+    private final SearchContext context;
+    private final boolean enabled;
+    private final Map<By, WebElement> handles = new HashMap<>();
+
+    /**
+     * @param context driver elements are located from
+     * @param enabled false to locate elements on every call
+     */
+    ElementCache(SearchContext context, boolean enabled) {
+        this.context = context;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the cached handle of an element, locating it on the first call
+     * @param by element locator
+     * @return element handle
+     */
+    @Override
+    public WebElement findElement(By by) {
+        if (!enabled) {
+            return context.findElement(by);
+        }
+        WebElement handle = handles.get(by);
+        if (handle != null) {
+            hits.increment();
+            return handle;
+        }
+        lookups.increment();
+        handle = context.findElement(by);
+        handles.put(by, handle);
+        return handle;
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return context.findElements(by);
+    }
+
+    /**
+     * Locate an element again after its cached handle went stale
+     * @param by element locator
+     * @return new element handle
+     */
+    WebElement refresh(By by) {
+        handles.remove(by);
+        staleRefreshes.increment();
+        return findElement(by);
+    }
+
+    /**
+     * Drop every cached handle, e.g. after navigating to another document
+     */
+    void invalidate() {
+        handles.clear();
+    }
+
+    private static void logStatistics() {
+        long served = hits.sum();
+        long located = lookups.sum();
+        if (served + located > 0) {
+            logger.info("Element cache: {} lookups, {} served from cache ({}% of findElement calls saved), {} stale refreshes",
+                    located, served, served * 100 / (served + located), staleRefreshes.sum());
+        }
+    }
+}
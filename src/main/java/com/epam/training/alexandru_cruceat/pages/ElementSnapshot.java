@@ -0,0 +1,30 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import java.util.Map;
+
+/**
+ * State of a single element captured by a batched page query
+ * @param present true if the element exists in the DOM
+ * @param displayed true if the element is rendered and visible
+ * @param enabled true if the element is not disabled
+ * @param text visible text of the element
+ * @param attributes requested attribute values, missing attributes are omitted
+ */
+public record ElementSnapshot(boolean present, boolean displayed, boolean enabled, String text,
+                              Map<String, String> attributes) {
+
+    static final ElementSnapshot ABSENT = new ElementSnapshot(false, false, false, "", Map.of());
+
+    public ElementSnapshot {
+        attributes = Map.copyOf(attributes);
+    }
+
+    /**
+     * Get attribute value
+     * @param name attribute name
+     * @return attribute value or null if not present or not requested
+     */
+    public String attribute(String name) {
+        return attributes.get(name);
+    }
+}
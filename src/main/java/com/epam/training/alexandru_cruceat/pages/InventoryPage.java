@@ -1,23 +1,68 @@
 package com.epam.training.alexandru_cruceat.pages;
 
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.utils.SessionInjector;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 /**
  * Page object for the inventory page using Page Factory
  */
 public class InventoryPage extends BasePage {
 
     private static final Logger logger = LoggerFactory.getLogger(InventoryPage.class);
+    private static final String INVENTORY_CONTAINER_XPATH = "//div[@id='inventory_container']";
+    private static final String INVENTORY_PATH = "inventory.html";
+    static final By INVENTORY_CONTAINER_LOCATOR = By.xpath(INVENTORY_CONTAINER_XPATH);
 
-    // Page Factory locators
+    // @FindBy fields are package-private so the generated binder can assign them
     @FindBy(xpath = "//div[@class='app_logo']")
-    private WebElement appLogo;
+    WebElement appLogo;
+
+    @FindBy(xpath = INVENTORY_CONTAINER_XPATH)
+    WebElement inventoryContainer;
+
+    /**
+     * Open the inventory page already logged in, skipping the login form
+     * @param username user to log in as
+     * @return InventoryPage instance
+     */
+    public static InventoryPage openAs(String username) {
+        InventoryPage inventoryPage = new InventoryPage();
+        SessionInjector.authenticate(inventoryPage.driver, username);
+        return inventoryPage.open();
+    }
 
-    @FindBy(xpath = "//div[@id='inventory_container']")
-    private WebElement inventoryContainer;
+    /**
+     * Open the inventory page with a previously saved session
+     * @param sessionName name the session was saved under
+     * @return InventoryPage instance
+     */
+    public static InventoryPage openWithSession(String sessionName) {
+        InventoryPage inventoryPage = new InventoryPage();
+        SessionInjector.restore(inventoryPage.driver, SessionInjector.load(sessionName));
+        return inventoryPage.open();
+    }
+
+    /**
+     * Navigate to the inventory page
+     * @return InventoryPage instance
+     */
+    public InventoryPage open() {
+        logger.info("Opening inventory page");
+        navigateTo(DriverConfig.getBaseUrl() + INVENTORY_PATH);
+        return this;
+    }
+
+    @Override
+    protected List<ReadinessProbe> readinessProbes() {
+        return List.of(ReadinessProbe.elementPresent(INVENTORY_CONTAINER_LOCATOR));
+    }
 
     /**
      * Check if user is logged in
@@ -25,6 +70,10 @@ public class InventoryPage extends BasePage {
      */
     public boolean isLoggedIn() {
         logger.info("Checking if user is logged in");
+        if (snapshot("inventoryContainer", "appLogo").allDisplayed()) {
+            return true;
+        }
+        // Page may still be rendering, fall back to waiting for each element
         return isElementDisplayed(inventoryContainer) && isElementDisplayed(appLogo);
     }
 
@@ -34,6 +83,7 @@ public class InventoryPage extends BasePage {
      */
     public String getAppLogoText() {
         logger.info("Getting app logo text");
-        return getText(appLogo);
+        ElementSnapshot logo = snapshot("appLogo").get("appLogo");
+        return logo.displayed() ? logo.text() : getText(appLogo);
     }
 }
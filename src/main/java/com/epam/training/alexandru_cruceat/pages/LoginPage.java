@@ -1,13 +1,17 @@
 package com.epam.training.alexandru_cruceat.pages;
 
 import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.utils.OutcomeResolver;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,25 +20,27 @@ import java.util.regex.Pattern;
  */
 public class LoginPage extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(LoginPage.class);
+    private static final String ERROR_MESSAGE_XPATH = "//h3[@data-test='error']";
+    private static final By ERROR_MESSAGE_LOCATOR = By.xpath(ERROR_MESSAGE_XPATH);
 
-    // Page Factory locators
+    // @FindBy fields are package-private so the generated binder can assign them
     @FindBy(xpath = "//input[@data-test='username']")
-    private WebElement usernameInput;
+    WebElement usernameInput;
 
     @FindBy(xpath = "//input[@data-test='password']")
-    private WebElement passwordInput;
+    WebElement passwordInput;
 
     @FindBy(xpath = "//input[@data-test='login-button']")
-    private WebElement loginButton;
+    WebElement loginButton;
 
-    @FindBy(xpath = "//h3[@data-test='error']")
-    private WebElement errorMessage;
+    @FindBy(xpath = ERROR_MESSAGE_XPATH)
+    WebElement errorMessage;
 
     @FindBy(xpath = "//div[@data-test='login-credentials']")
-    private WebElement loginCredentials;
+    WebElement loginCredentials;
 
     @FindBy(xpath = "//div[@data-test='login-password']")
-    private WebElement loginPassword;
+    WebElement loginPassword;
 
     /**
      * Navigate to the login page
@@ -46,6 +52,11 @@ public class LoginPage extends BasePage {
         return this;
     }
 
+    @Override
+    protected List<ReadinessProbe> readinessProbes() {
+        return List.of(ReadinessProbe.elementVisible(locatorOf("loginButton")));
+    }
+
     /**
      * Enter username
      * @param username username to enter
@@ -89,25 +100,24 @@ public class LoginPage extends BasePage {
     }
 
     /**
-     * Click login button
-     * @return InventoryPage or LoginPage instance based on success
+     * Click login button and wait for either the error message or the inventory page
+     * @return Success with InventoryPage or Failure with this LoginPage
      */
-    public Object clickLoginButton() {
+    public LoginResult clickLoginButton() {
         logger.info("Clicking login button");
         click(loginButton);
 
-        // Check if error message is displayed
-        try {
-            if (errorMessage.isDisplayed()) {
-                logger.info("Login failed, staying on LoginPage");
-                return this;
-            }
-        } catch (Exception e) {
-            // No error message, login successful
-        }
+        LoginResult result = OutcomeResolver.<LoginResult>forDriver(driver)
+                .when(ERROR_MESSAGE_LOCATOR, () -> new LoginResult.Failure(this))
+                .when(InventoryPage.INVENTORY_CONTAINER_LOCATOR, () -> new LoginResult.Success(new InventoryPage()))
+                .resolve();
 
-        logger.info("Login successful, navigating to InventoryPage");
-        return new InventoryPage();
+        if (result.isSuccessful()) {
+            logger.info("Login successful, navigating to InventoryPage");
+        } else {
+            logger.info("Login failed, staying on LoginPage");
+        }
+        return result;
     }
 
     /**
@@ -167,12 +177,14 @@ public class LoginPage extends BasePage {
      * Login with credentials
      * @param username username
      * @param password password
-     * @return InventoryPage or LoginPage instance based on success
+     * @return Success with InventoryPage or Failure with this LoginPage
      */
-    public Object login(String username, String password) {
+    public LoginResult login(String username, String password) {
         logger.info("Performing login with username: {}", username);
-        enterUsername(username);
-        enterPassword(password);
+        Map<String, String> credentials = new LinkedHashMap<>();
+        credentials.put("usernameInput", username);
+        credentials.put("passwordInput", password);
+        fillForm(credentials);
         return clickLoginButton();
     }
 }
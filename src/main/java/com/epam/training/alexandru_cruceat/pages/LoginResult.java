@@ -0,0 +1,29 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+/**
+ * Outcome of submitting the login form
+ */
+public sealed interface LoginResult permits LoginResult.Success, LoginResult.Failure {
+
+    /**
+     * Login succeeded and the inventory page is shown
+     * @param inventoryPage page reached after login
+     */
+    record Success(InventoryPage inventoryPage) implements LoginResult {
+    }
+
+    /**
+     * Login failed and an error is shown on the login page
+     * @param loginPage page showing the error
+     */
+    record Failure(LoginPage loginPage) implements LoginResult {
+    }
+
+    /**
+     * Check if login succeeded
+     * @return true if the inventory page was reached
+     */
+    default boolean isSuccessful() {
+        return this instanceof Success;
+    }
+}
@@ -0,0 +1,50 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binds the @FindBy fields of one page class without reflection.
+ * Implementations are generated at compile time by PageElementsProcessor and registered as services;
+ * pages without a generated binder fall back to PageFactory.
+ * @param <P> page class
+ */
+public interface PageBinder<P> {
+
+    /**
+     * @return page class this binder is generated for
+     */
+    Class<P> pageType();
+
+    /**
+     * Assign a lazily located element to every @FindBy field of the page
+     * @param page page instance
+     * @param context driver or element the fields are located from
+     */
+    void bind(P page, SearchContext context);
+
+    /**
+     * @return locators keyed by field name, XPath already rewritten to CSS where possible
+     */
+    Map<String, By> locators();
+
+    /**
+     * @return names of fields marked with {@link RequiresKeystrokes}
+     */
+    Set<String> keystrokeFields();
+
+    /**
+     * Create an element that is resolved through its search context on every call.
+     * With a page's {@link ElementCache} as context, repeated calls reuse the cached handle.
+     * @param context search context, usually the page's element cache
+     * @param locator element locator
+     * @return lazily located element
+     */
+    static WebElement locate(SearchContext context, By locator) {
+        return new LocatedElement(context, locator);
+    }
+}
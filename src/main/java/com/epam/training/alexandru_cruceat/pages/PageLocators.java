@@ -0,0 +1,116 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Locators declared with @FindBy on page object fields, built once per page class.
+ * Pages with a compile-time generated {@link PageBinder} use its locators and bind their fields
+ * without reflection; other pages fall back to reading annotations and PageFactory.
+ * Either way, @FindBy WebElement fields become {@link LocatedElement}s.
+ */
+public final class PageLocators {
+    private static final Logger logger = LoggerFactory.getLogger(PageLocators.class);
+    private static final Map<Class<?>, PageBinder<?>> generatedBinders = loadGeneratedBinders();
+    private static final ClassValue<PageLocators> locatorsByClass = new ClassValue<>() {
+        @Override
+        protected PageLocators computeValue(Class<?> pageClass) {
+            return new PageLocators(pageClass);
+        }
+    };
+
+    private final PageBinder<?> binder;
+    private final Map<String, By> locators;
+    private final Set<String> keystrokeFields;
+
+    private PageLocators(Class<?> pageClass) {
+        this.binder = generatedBinders.get(pageClass);
+        if (binder != null) {
+            this.locators = binder.locators();
+            this.keystrokeFields = binder.keystrokeFields();
+            return;
+        }
+        logger.debug("No generated binder for {}, using PageFactory", pageClass.getSimpleName());
+        Map<String, By> fieldLocators = new HashMap<>();
+        Set<String> fieldsNeedingKeystrokes = new HashSet<>();
+        for (Class<?> type = pageClass; type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (WebElement.class.equals(field.getType()) && field.isAnnotationPresent(FindBy.class)) {
+                    fieldLocators.putIfAbsent(field.getName(), new Annotations(field).buildBy());
+                    if (field.isAnnotationPresent(RequiresKeystrokes.class)) {
+                        fieldsNeedingKeystrokes.add(field.getName());
+                    }
+                }
+            }
+        }
+        this.locators = Map.copyOf(fieldLocators);
+        this.keystrokeFields = Set.copyOf(fieldsNeedingKeystrokes);
+    }
+
+    private static Map<Class<?>, PageBinder<?>> loadGeneratedBinders() {
+        Map<Class<?>, PageBinder<?>> binders = new HashMap<>();
+        for (PageBinder<?> binder : ServiceLoader.load(PageBinder.class)) {
+            binders.put(binder.pageType(), binder);
+        }
+        return Map.copyOf(binders);
+    }
+
+    /**
+     * Initialize the @FindBy fields of a page
+     * @param page page instance
+     * @param context driver or element cache the fields are located from
+     */
+    @SuppressWarnings("unchecked")
+    static void bind(Object page, SearchContext context) {
+        PageLocators pageLocators = locatorsByClass.get(page.getClass());
+        if (pageLocators.binder != null) {
+            ((PageBinder<Object>) pageLocators.binder).bind(page, context);
+            return;
+        }
+        FieldDecorator proxies = new DefaultFieldDecorator(new DefaultElementLocatorFactory(context));
+        PageFactory.initElements((loader, field) -> {
+            By locator = WebElement.class.equals(field.getType()) ? pageLocators.locators.get(field.getName()) : null;
+            return locator != null ? new LocatedElement(context, locator) : proxies.decorate(loader, field);
+        }, page);
+    }
+
+    /**
+     * Get the locator of a page object field
+     * @param pageClass page object class
+     * @param fieldName name of the @FindBy field
+     * @return locator of the field
+     */
+    public static By of(Class<?> pageClass, String fieldName) {
+        By locator = locatorsByClass.get(pageClass).locators.get(fieldName);
+        if (locator == null) {
+            throw new IllegalArgumentException("No @FindBy field '" + fieldName + "' in " + pageClass.getSimpleName());
+        }
+        return locator;
+    }
+
+    /**
+     * Check if a page object field is marked with @RequiresKeystrokes
+     * @param pageClass page object class
+     * @param fieldName name of the @FindBy field
+     * @return true if the field must be filled with real keystrokes
+     */
+    static boolean requiresKeystrokes(Class<?> pageClass, String fieldName) {
+        return locatorsByClass.get(pageClass).keystrokeFields.contains(fieldName);
+    }
+}
@@ -0,0 +1,40 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import java.util.Map;
+
+/**
+ * State of several page elements read in a single browser round-trip
+ */
+public final class PageSnapshot {
+    private final Map<String, ElementSnapshot> elements;
+
+    PageSnapshot(Map<String, ElementSnapshot> elements) {
+        this.elements = Map.copyOf(elements);
+    }
+
+    /**
+     * Get the state of an element
+     * @param name name the element was queried with
+     * @return element state
+     */
+    public ElementSnapshot get(String name) {
+        ElementSnapshot element = elements.get(name);
+        if (element == null) {
+            throw new IllegalArgumentException("Element '" + name + "' was not part of the snapshot");
+        }
+        return element;
+    }
+
+    /**
+     * Check if every queried element is displayed
+     * @return true if all elements are displayed
+     */
+    public boolean allDisplayed() {
+        return elements.values().stream().allMatch(ElementSnapshot::displayed);
+    }
+
+    @Override
+    public String toString() {
+        return "PageSnapshot" + elements;
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import com.epam.training.alexandru_cruceat.utils.ScriptLocators;
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Condition that tells when a page can be used, checked in the browser after navigation.
+ * All probes of a page are evaluated together in a single script call.
+ * @param description probe description used in logs and timeout messages
+ * @param kind probe kind understood by the readiness script
+ * @param argument probe argument
+ */
+public record ReadinessProbe(String description, String kind, Object argument) {
+
+    // Returns true when every [kind, argument] probe holds
+    static final String READINESS_SCRIPT = ScriptLocators.FIND_FUNCTION + """
+            var probes = arguments[0];
+            if (window.__navigationMarker) return false;
+            for (var i = 0; i < probes.length; i++) {
+                var kind = probes[i][0], argument = probes[i][1], ready;
+                if (kind === 'documentState') {
+                    ready = document.readyState === 'complete'
+                            || (argument === 'interactive' && document.readyState === 'interactive');
+                } else if (kind === 'present') {
+                    ready = find(argument) !== null;
+                } else if (kind === 'visible') {
+                    var element = find(argument);
+                    ready = element !== null && element.getClientRects().length > 0;
+                } else {
+                    ready = Boolean(new Function(argument)());
+                }
+                if (!ready) return false;
+            }
+            return true;
+            """;
+
+    /**
+     * Document has reached the given readyState
+     * @param state "interactive" or "complete"
+     * @return readiness probe
+     */
+    public static ReadinessProbe documentState(String state) {
+        return new ReadinessProbe("document " + state, "documentState", state);
+    }
+
+    /**
+     * Element exists in the DOM
+     * @param locator element locator, CSS or XPath based
+     * @return readiness probe
+     */
+    public static ReadinessProbe elementPresent(By locator) {
+        return new ReadinessProbe(locator + " present", "present", scriptLocator(locator));
+    }
+
+    /**
+     * Element exists and is rendered
+     * @param locator element locator, CSS or XPath based
+     * @return readiness probe
+     */
+    public static ReadinessProbe elementVisible(By locator) {
+        return new ReadinessProbe(locator + " visible", "visible", scriptLocator(locator));
+    }
+
+    /**
+     * Application specific signal, e.g. a framework reporting it is idle
+     * @param description probe description
+     * @param scriptBody function body returning a truthy value once ready
+     * @return readiness probe
+     */
+    public static ReadinessProbe script(String description, String scriptBody) {
+        return new ReadinessProbe(description, "script", scriptBody);
+    }
+
+    /**
+     * Get [kind, argument] pair passed to the readiness script
+     * @return script arguments
+     */
+    List<Object> toScript() {
+        return List.of(kind, argument);
+    }
+
+    private static List<String> scriptLocator(By locator) {
+        List<String> scriptLocator = ScriptLocators.toScript(locator);
+        if (scriptLocator == null) {
+            throw new IllegalArgumentException("Locator cannot be used as a readiness probe: " + locator);
+        }
+        return scriptLocator;
+    }
+}
@@ -0,0 +1,15 @@
+package com.epam.training.alexandru_cruceat.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object field that must always be filled with real keystrokes,
+ * even when fast form-fill mode is enabled
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface RequiresKeystrokes {
+}
@@ -0,0 +1,390 @@
+package com.epam.training.alexandru_cruceat.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Page>_Elements} binder for every page class with @FindBy fields, so pages are bound
+ * with plain field assignments instead of PageFactory reflection and proxies.
+ * XPath locators that have a CSS equivalent are rewritten to CSS, the others are reported as warnings.
+ * Pages with private, list or otherwise unsupported fields get no binder and keep using PageFactory.
+ */
+@SupportedAnnotationTypes("org.openqa.selenium.support.FindBy")
+public class PageElementsProcessor extends AbstractProcessor {
+    private static final String FIND_BY = "org.openqa.selenium.support.FindBy";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String REQUIRES_KEYSTROKES = "com.epam.training.alexandru_cruceat.pages.RequiresKeystrokes";
+    private static final String PAGE_BINDER = "com.epam.training.alexandru_cruceat.pages.PageBinder";
+    private static final String BY_ID_OR_NAME = "new ByIdOrName(";
+    private static final Set<String> UNSUPPORTED_ANNOTATIONS = Set.of(
+            "org.openqa.selenium.support.FindBys",
+            "org.openqa.selenium.support.FindAll",
+            "org.openqa.selenium.support.CacheLookup");
+    private static final Map<String, String> BY_METHODS = Map.of(
+            "id", "id",
+            "name", "name",
+            "className", "className",
+            "css", "cssSelector",
+            "tagName", "tagName",
+            "linkText", "linkText",
+            "partialLinkText", "partialLinkText",
+            "xpath", "xpath");
+    private static final Map<String, String> HOW_ATTRIBUTES = Map.of(
+            "ID", "id",
+            "NAME", "name",
+            "CLASS_NAME", "className",
+            "CSS", "css",
+            "TAG_NAME", "tagName",
+            "LINK_TEXT", "linkText",
+            "PARTIAL_LINK_TEXT", "partialLinkText",
+            "XPATH", "xpath");
+
+    private final Set<String> generatedBinders = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> pages = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD
+                        && element.getEnclosingElement() instanceof TypeElement page) {
+                    pages.add(page);
+                }
+            }
+        }
+        pages.forEach(this::generateBinder);
+        return false;
+    }
+
+    private void generateBinder(TypeElement page) {
+        if (!isBindable(page)) {
+            return;
+        }
+        List<BoundField> fields = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (TypeElement type = page; type != null; type = superclassOf(type)) {
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.FIELD || findBy(member) == null) {
+                    continue;
+                }
+                BoundField field = boundField((VariableElement) member, page);
+                if (field == null) {
+                    return;
+                }
+                if (!names.add(field.name())) {
+                    warning(member, "No binder generated for " + page.getSimpleName() + " because field "
+                            + field.name() + " hides an inherited field, PageFactory is used instead");
+                    return;
+                }
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) {
+            return;
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String binderName = binderName(page);
+        try {
+            writeBinder(page, packageName, binderName, fields);
+            generatedBinders.add(packageName.isEmpty() ? binderName : packageName + "." + binderName);
+        } catch (IOException e) {
+            error(page, "Could not write " + binderName + ": " + e.getMessage());
+        }
+    }
+
+    private boolean isBindable(TypeElement page) {
+        String reason = null;
+        if (page.getKind() != ElementKind.CLASS) {
+            reason = "it is not a class";
+        } else if (!page.getTypeParameters().isEmpty()) {
+            reason = "it has type parameters";
+        } else if (page.getModifiers().contains(Modifier.PRIVATE)) {
+            reason = "it is private";
+        } else if (page.getNestingKind().isNested() && !page.getModifiers().contains(Modifier.STATIC)) {
+            reason = "it is an inner class";
+        }
+        if (reason != null) {
+            warning(page, "No binder generated for " + page.getSimpleName() + " because " + reason
+                    + ", PageFactory is used instead");
+            return false;
+        }
+        return true;
+    }
+
+    private BoundField boundField(VariableElement field, TypeElement page) {
+        String problem = null;
+        if (field.getModifiers().contains(Modifier.PRIVATE)) {
+            problem = "is private";
+        } else if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+            problem = "is static or final";
+        } else if (!isWebElement(field.asType())) {
+            problem = "is not a WebElement";
+        } else if (!samePackage(field, page) && !field.getModifiers().contains(Modifier.PUBLIC)) {
+            problem = "is not visible from the page package";
+        } else if (field.getAnnotationMirrors().stream().anyMatch(mirror -> UNSUPPORTED_ANNOTATIONS.contains(nameOf(mirror)))) {
+            problem = "uses @FindBys, @FindAll or @CacheLookup";
+        }
+        if (problem != null) {
+            warning(field, "No binder generated for " + page.getSimpleName() + " because field "
+                    + field.getSimpleName() + " " + problem + ", PageFactory is used instead");
+            return null;
+        }
+        String locator = locator(field);
+        if (locator == null) {
+            return null;
+        }
+        boolean keystrokes = field.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> REQUIRES_KEYSTROKES.equals(nameOf(mirror)));
+        return new BoundField(field.getSimpleName().toString(), locator, keystrokes);
+    }
+
+    /**
+     * Build the By expression for a field the same way PageFactory's Annotations does
+     */
+    private String locator(VariableElement field) {
+        Map<String, String> values = new LinkedHashMap<>();
+        String how = null;
+        String using = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : findBy(field).getElementValues().entrySet()) {
+            String attribute = entry.getKey().getSimpleName().toString();
+            String value = entry.getValue().getValue().toString();
+            switch (attribute) {
+                case "how" -> how = value.substring(value.lastIndexOf('.') + 1);
+                case "using" -> using = value;
+                default -> {
+                    if (!value.isEmpty()) {
+                        values.put(attribute, value);
+                    }
+                }
+            }
+        }
+        if (how != null && !how.equals("UNSET") && using != null && !using.isEmpty()) {
+            if (how.equals("ID_OR_NAME")) {
+                return byIdOrName(using);
+            }
+            if (!HOW_ATTRIBUTES.containsKey(how)) {
+                error(field, "Unsupported How." + how + " on " + field.getSimpleName());
+                return null;
+            }
+            values.put(HOW_ATTRIBUTES.get(how), using);
+        }
+        if (values.size() > 1) {
+            error(field, "More than one locator on " + field.getSimpleName() + ": " + values.keySet());
+            return null;
+        }
+        if (values.isEmpty()) {
+            return byIdOrName(field.getSimpleName().toString());
+        }
+        Map.Entry<String, String> entry = values.entrySet().iterator().next();
+        if (entry.getKey().equals("xpath")) {
+            return xpathLocator(field, entry.getValue());
+        }
+        return by(BY_METHODS.get(entry.getKey()), entry.getValue());
+    }
+
+    private String xpathLocator(VariableElement field, String xpath) {
+        Optional<String> css = XPathToCss.rewrite(xpath);
+        if (css.isEmpty()) {
+            warning(field, "XPath of " + field.getSimpleName() + " cannot be rewritten to CSS, keeping " + xpath);
+            return by("xpath", xpath);
+        }
+        if (XPathToCss.isIdSelector(css.get())) {
+            return by("id", css.get().substring(1));
+        }
+        return by("cssSelector", css.get());
+    }
+
+    private static String by(String method, String value) {
+        return "By." + method + "(" + javaString(value) + ")";
+    }
+
+    private static String byIdOrName(String value) {
+        return BY_ID_OR_NAME + javaString(value) + ")";
+    }
+
+    private void writeBinder(TypeElement page, String packageName, String binderName, List<BoundField> fields)
+            throws IOException {
+        String pageName = page.getQualifiedName().toString();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import org.openqa.selenium.By;\n")
+                .append("import org.openqa.selenium.SearchContext;\n");
+        if (fields.stream().anyMatch(field -> field.locator().startsWith(BY_ID_OR_NAME))) {
+            source.append("import org.openqa.selenium.support.ByIdOrName;\n");
+        }
+        source.append('\n')
+                .append("import java.util.Map;\n")
+                .append("import java.util.Set;\n\n")
+                .append("/**\n * Generated by ").append(getClass().getSimpleName())
+                .append(" from the @FindBy fields of {@link ").append(pageName).append("}\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(binderName)
+                .append(" implements ").append(PAGE_BINDER).append('<').append(pageName).append("> {\n");
+        for (BoundField field : fields) {
+            source.append("    private static final By ").append(field.constant())
+                    .append(" = ").append(field.locator()).append(";\n");
+        }
+        source.append("    private static final Map<String, By> LOCATORS = Map.ofEntries(\n");
+        for (int i = 0; i < fields.size(); i++) {
+            source.append("            Map.entry(").append(javaString(fields.get(i).name())).append(", ")
+                    .append(fields.get(i).constant()).append(')').append(i < fields.size() - 1 ? ",\n" : ");\n");
+        }
+        source.append("    private static final Set<String> KEYSTROKE_FIELDS = Set.of(")
+                .append(String.join(", ", fields.stream()
+                        .filter(BoundField::keystrokes).map(field -> javaString(field.name())).toList()))
+                .append(");\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(pageName).append("> pageType() {\n")
+                .append("        return ").append(pageName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(").append(pageName).append(" page, SearchContext context) {\n");
+        for (BoundField field : fields) {
+            source.append("        page.").append(field.name()).append(" = ").append(PAGE_BINDER)
+                    .append(".locate(context, ").append(field.constant()).append(");\n");
+        }
+        source.append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Map<String, By> locators() {\n")
+                .append("        return LOCATORS;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Set<String> keystrokeFields() {\n")
+                .append("        return KEYSTROKE_FIELDS;\n")
+                .append("    }\n")
+                .append("}\n");
+        String binderQualifiedName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(binderQualifiedName, page).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generatedBinders.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + PAGE_BINDER);
+            try (Writer writer = file.openWriter()) {
+                for (String binder : generatedBinders) {
+                    writer.write(binder + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write the PageBinder service file: " + e.getMessage());
+        }
+    }
+
+    private AnnotationMirror findBy(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .filter(mirror -> FIND_BY.equals(nameOf(mirror)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String nameOf(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private boolean isWebElement(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(WEB_ELEMENT);
+    }
+
+    private boolean samePackage(Element field, TypeElement page) {
+        PackageElement fieldPackage = processingEnv.getElementUtils().getPackageOf(field);
+        return fieldPackage.equals(processingEnv.getElementUtils().getPackageOf(page));
+    }
+
+    private static TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private static String binderName(TypeElement page) {
+        StringBuilder name = new StringBuilder(page.getSimpleName());
+        for (Element outer = page.getEnclosingElement(); outer instanceof TypeElement type; outer = type.getEnclosingElement()) {
+            name.insert(0, type.getSimpleName() + "_");
+        }
+        return name.append("_Elements").toString();
+    }
+
+    private static String javaString(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private void warning(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @param name field name
+     * @param locator Java expression creating the field's By
+     * @param keystrokes true if the field is marked with RequiresKeystrokes
+     */
+    private record BoundField(String name, String locator, boolean keystrokes) {
+        String constant() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        }
+    }
+}
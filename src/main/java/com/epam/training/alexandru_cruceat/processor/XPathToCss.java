@@ -0,0 +1,148 @@
+package com.epam.training.alexandru_cruceat.processor;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites the simple XPath locators used by page objects to equivalent CSS selectors.
+ * Supported are chains of steps like //tag[@attr='value'][@other]/child, where // becomes a descendant
+ * combinator and / a child combinator. Anything else (functions, positions, axes, text) is not rewritten.
+ */
+final class XPathToCss {
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_-]*");
+
+    private final String xpath;
+    private int position;
+
+    private XPathToCss(String xpath) {
+        this.xpath = xpath;
+    }
+
+    /**
+     * Rewrite an XPath to CSS
+     * @param xpath XPath locator
+     * @return equivalent CSS selector, or empty if the XPath uses anything without a CSS equivalent
+     */
+    static Optional<String> rewrite(String xpath) {
+        return Optional.ofNullable(new XPathToCss(xpath.trim()).parse());
+    }
+
+    /**
+     * @param css CSS selector
+     * @return true if the selector only matches an id, e.g. #main, so By.id can be used instead
+     */
+    static boolean isIdSelector(String css) {
+        return css.startsWith("#") && IDENTIFIER.matcher(css.substring(1)).matches();
+    }
+
+    private String parse() {
+        if (!xpath.startsWith("//")) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder();
+        while (position < xpath.length()) {
+            String combinator;
+            if (xpath.startsWith("//", position)) {
+                combinator = " ";
+                position += 2;
+            } else if (xpath.startsWith("/", position)) {
+                combinator = " > ";
+                position += 1;
+            } else {
+                return null;
+            }
+            String step = step();
+            if (step == null) {
+                return null;
+            }
+            if (!css.isEmpty()) {
+                css.append(combinator);
+            }
+            css.append(step);
+        }
+        return css.isEmpty() ? null : css.toString();
+    }
+
+    private String step() {
+        String tag;
+        if (xpath.startsWith("*", position)) {
+            tag = "*";
+            position++;
+        } else {
+            tag = identifier();
+            if (tag == null) {
+                return null;
+            }
+        }
+        StringBuilder predicates = new StringBuilder();
+        while (xpath.startsWith("[", position)) {
+            position++;
+            String predicate = predicate();
+            if (predicate == null || !xpath.startsWith("]", position)) {
+                return null;
+            }
+            position++;
+            predicates.append(predicate);
+        }
+        if (tag.equals("*") && !predicates.isEmpty()) {
+            return predicates.toString();
+        }
+        return tag + predicates;
+    }
+
+    private String predicate() {
+        if (!xpath.startsWith("@", position)) {
+            return null;
+        }
+        position++;
+        String attribute = identifier();
+        if (attribute == null) {
+            return null;
+        }
+        if (!xpath.startsWith("=", position)) {
+            return "[" + attribute + "]";
+        }
+        position++;
+        String value = literal();
+        if (value == null) {
+            return null;
+        }
+        if (attribute.equals("id") && IDENTIFIER.matcher(value).matches()) {
+            return "#" + value;
+        }
+        return "[" + attribute + "=" + quote(value) + "]";
+    }
+
+    private String identifier() {
+        var matcher = IDENTIFIER.matcher(xpath).region(position, xpath.length());
+        if (!matcher.lookingAt()) {
+            return null;
+        }
+        position = matcher.end();
+        return matcher.group();
+    }
+
+    private String literal() {
+        if (position >= xpath.length()) {
+            return null;
+        }
+        char quote = xpath.charAt(position);
+        if (quote != '\'' && quote != '"') {
+            return null;
+        }
+        int end = xpath.indexOf(quote, position + 1);
+        if (end < 0) {
+            return null;
+        }
+        String value = xpath.substring(position + 1, end);
+        position = end + 1;
+        return value;
+    }
+
+    private static String quote(String value) {
+        if (!value.contains("'")) {
+            return "'" + value.replace("\\", "\\\\") + "'";
+        }
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,241 @@
+package com.epam.training.alexandru_cruceat.server;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.utils.ShutdownSequence;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server serving a recorded snapshot of the application under test.
+ * Started on demand when base.url is set to "local", so runs do not depend on the live site.
+ */
+public final class LocalAppServer {
+    private static final Logger logger = LoggerFactory.getLogger(LocalAppServer.class);
+    private static final String INDEX = "index.html";
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("js", "application/javascript; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("json", "application/json; charset=utf-8"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("ttf", "font/ttf"));
+
+    private static volatile LocalAppServer instance;
+
+    private final HttpServer server;
+    private final Path snapshotRoot;
+    private final String classpathRoot;
+    private final String baseUrl;
+
+    /**
+     * Start a server for a snapshot, e.g. a temporary directory in tests
+     * @param snapshotRoot directory to serve, or null to serve from the classpath
+     * @param classpathRoot classpath directory served when snapshotRoot is null
+     * @param port port to listen on, 0 for any free port
+     * @throws IOException if the server cannot be started
+     */
+    LocalAppServer(Path snapshotRoot, String classpathRoot, int port) throws IOException {
+        this.snapshotRoot = snapshotRoot != null ? snapshotRoot.toAbsolutePath().normalize() : null;
+        this.classpathRoot = classpathRoot;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+        this.baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+        logger.info("Local app server serving {} at {}", snapshotRoot != null ? snapshotRoot : "classpath:" + classpathRoot, baseUrl);
+    }
+
+    /**
+     * Start the server once per JVM, recording a fresh snapshot first when record mode is on
+     * @return running server
+     */
+    public static LocalAppServer getInstance() {
+        if (instance == null) {
+            synchronized (LocalAppServer.class) {
+                if (instance == null) {
+                    instance = start();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the URL the snapshot is served at
+     * @return base URL ending with a slash
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Stop the server
+     */
+    public void stop() {
+        server.stop(0);
+    }
+
+    private static LocalAppServer start() {
+        try {
+            Path root = null;
+            String classpathRoot = DriverConfig.getLocalServerSnapshot();
+            if (DriverConfig.isLocalServerRecordMode()) {
+                root = Paths.get(DriverConfig.getLocalServerRecordDir());
+                new SnapshotRecorder(DriverConfig.getLocalServerRecordSource(), root).record();
+            } else {
+                URL resource = LocalAppServer.class.getClassLoader().getResource(classpathRoot + "/" + INDEX);
+                if (resource == null) {
+                    throw new IllegalStateException("No snapshot found on the classpath at " + classpathRoot
+                            + "; record one with local.server.record=true");
+                }
+                if ("file".equals(resource.getProtocol())) {
+                    root = Paths.get(resource.toURI()).getParent();
+                }
+            }
+            LocalAppServer server = new LocalAppServer(root, classpathRoot, DriverConfig.getLocalServerPort());
+            ShutdownSequence.register(ShutdownSequence.Phase.SERVERS, "local app server", server::stop);
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start local app server", e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid snapshot location", e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath().substring(1);
+            if (path.isEmpty() || path.endsWith("/")) {
+                path += INDEX;
+            }
+            // The path is percent-decoded, so e.g. /%2Fetc%2Fhostname arrives as an absolute path
+            path = relativePath(path);
+            if (path == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            // Client-side routes such as /inventory.html are rendered by the app's index page
+            if (!exists(path) && (path.endsWith(".html") || !path.contains("."))) {
+                path = INDEX;
+            }
+            serve(exchange, path);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Normalize a request path to a path inside the served root
+     * @param path decoded request path without the leading slash
+     * @return relative path separated by '/', or null if it is absolute or leaves the root
+     */
+    static String relativePath(String path) {
+        if (path.indexOf('\\') >= 0) {
+            return null;
+        }
+        Path relative;
+        try {
+            relative = Path.of(path).normalize();
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (relative.isAbsolute() || relative.getRoot() != null || relative.startsWith("..")
+                || relative.toString().isEmpty()) {
+            return null;
+        }
+        return relative.toString().replace(relative.getFileSystem().getSeparator(), "/");
+    }
+
+    /**
+     * Resolve a relative path against the snapshot directory
+     * @return file inside the snapshot directory, or null if the path leaves it
+     */
+    private Path snapshotFile(String path) {
+        Path file = snapshotRoot.resolve(path).normalize();
+        return file.startsWith(snapshotRoot) ? file : null;
+    }
+
+    private boolean exists(String path) {
+        if (snapshotRoot == null) {
+            return LocalAppServer.class.getClassLoader().getResource(classpathRoot + "/" + path) != null;
+        }
+        Path file = snapshotFile(path);
+        return file != null && Files.isRegularFile(file);
+    }
+
+    private void serve(HttpExchange exchange, String path) throws IOException {
+        String extension = path.substring(path.lastIndexOf('.') + 1);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+        exchange.getResponseHeaders().set("Cache-Control", path.equals(INDEX) ? "no-cache" : "max-age=3600");
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+
+        if (snapshotRoot != null) {
+            Path file = snapshotFile(path);
+            if (file == null || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                exchange.sendResponseHeaders(200, head || size == 0 ? -1 : size);
+                if (!head) {
+                    transfer(channel, size, exchange.getResponseBody());
+                }
+            }
+            return;
+        }
+
+        try (InputStream input = LocalAppServer.class.getClassLoader().getResourceAsStream(classpathRoot + "/" + path)) {
+            if (input == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = input.readAllBytes();
+            exchange.sendResponseHeaders(200, head || body.length == 0 ? -1 : body.length);
+            if (!head) {
+                exchange.getResponseBody().write(body);
+            }
+        }
+    }
+
+    /**
+     * Copy a file to the response with FileChannel.transferTo, avoiding an intermediate heap buffer
+     */
+    private static void transfer(FileChannel channel, long size, OutputStream output) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+        long position = 0;
+        while (position < size) {
+            position += channel.transferTo(position, size - position, target);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.epam.training.alexandru_cruceat.server;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records a snapshot of the live application into a directory the local server can serve.
+ * Starts from the index page and follows same-origin references in HTML and CSS,
+ * plus the files listed in a build asset manifest when the app publishes one.
+ */
+public final class SnapshotRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRecorder.class);
+    private static final int MAX_FILES = 500;
+    private static final Pattern HTML_REFERENCE = Pattern.compile("(?:src|href)=[\"']([^\"'#]+)[\"']");
+    private static final Pattern CSS_REFERENCE = Pattern.compile("url\\([\"']?([^\"')]+)[\"']?\\)");
+    private static final String ASSET_MANIFEST = "asset-manifest.json";
+
+    private final URI source;
+    private final Path target;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    /**
+     * @param sourceUrl URL of the live application
+     * @param target directory the snapshot is written to
+     */
+    public SnapshotRecorder(String sourceUrl, Path target) {
+        this.source = URI.create(sourceUrl.endsWith("/") ? sourceUrl : sourceUrl + "/");
+        this.target = target;
+    }
+
+    /**
+     * Record the snapshot, overwriting files that already exist in the target directory
+     */
+    public void record() {
+        logger.info("Recording snapshot of {} into {}", source, target);
+        Deque<URI> queue = new ArrayDeque<>();
+        Set<URI> seen = new HashSet<>();
+        queue.add(source);
+        queue.add(source.resolve(ASSET_MANIFEST));
+        int recorded = 0;
+
+        while (!queue.isEmpty() && recorded < MAX_FILES) {
+            URI uri = queue.poll();
+            if (!seen.add(uri)) {
+                continue;
+            }
+            byte[] body = fetch(uri);
+            if (body == null) {
+                continue;
+            }
+            String path = uri.getPath().substring(1);
+            write(path.isEmpty() || path.endsWith("/") ? path + "index.html" : path, body);
+            recorded++;
+            queue.addAll(references(uri, path, body));
+        }
+        logger.info("Recorded {} file(s)", recorded);
+    }
+
+    private byte[] fetch(URI uri) {
+        try {
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                logger.debug("Skipping {} ({})", uri, response.statusCode());
+                return null;
+            }
+            return response.body();
+        } catch (IOException e) {
+            logger.warn("Failed to fetch {}: {}", uri, e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while recording snapshot", e);
+        }
+    }
+
+    private void write(String path, byte[] body) {
+        Path file = target.resolve(path).normalize();
+        if (!file.startsWith(target.normalize())) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + file, e);
+        }
+    }
+
+    /**
+     * Find same-origin files referenced by a recorded file
+     */
+    @SuppressWarnings("unchecked")
+    private Set<URI> references(URI uri, String path, byte[] body) {
+        Set<URI> references = new HashSet<>();
+        String text = new String(body, StandardCharsets.UTF_8);
+        if (path.endsWith(ASSET_MANIFEST)) {
+            Map<String, Object> manifest = new Json().toType(text, Json.MAP_TYPE);
+            if (manifest.get("files") instanceof Map<?, ?> files) {
+                ((Map<String, Object>) files).values().forEach(file -> addReference(references, uri, String.valueOf(file)));
+            }
+        } else if (path.endsWith(".css")) {
+            addMatches(references, uri, CSS_REFERENCE.matcher(text));
+        } else if (path.isEmpty() || path.endsWith(".html")) {
+            addMatches(references, uri, HTML_REFERENCE.matcher(text));
+        }
+        return references;
+    }
+
+    private void addMatches(Set<URI> references, URI base, Matcher matcher) {
+        while (matcher.find()) {
+            addReference(references, base, matcher.group(1));
+        }
+    }
+
+    private void addReference(Set<URI> references, URI base, String reference) {
+        if (reference.startsWith("data:") || reference.startsWith("mailto:")) {
+            return;
+        }
+        try {
+            URI resolved = base.resolve(reference.trim());
+            if (source.getHost().equals(resolved.getHost())) {
+                references.add(new URI(resolved.getScheme(), resolved.getAuthority(), resolved.getPath(), null, null));
+            }
+        } catch (IllegalArgumentException | URISyntaxException e) {
+            logger.debug("Ignoring reference {}: {}", reference, e.getMessage());
+        }
+    }
+}
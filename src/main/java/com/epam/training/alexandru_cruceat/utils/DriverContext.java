@@ -0,0 +1,51 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the driver session and the wait time of one test. DriverManager reads the context bound to
+ * the current thread, and every thread gets its own context by default, so it behaves like a plain
+ * ThreadLocal. Code that runs parts of one test on different threads binds the test's context
+ * explicitly around each part, so they share one session.
+ */
+public final class DriverContext {
+    private static final ThreadLocal<DriverContext> bound = ThreadLocal.withInitial(DriverContext::new);
+
+    private final AtomicLong waitNanos = new AtomicLong();
+    private volatile DriverSession session;
+
+    /**
+     * Get the context bound to the current thread
+     * @return current context
+     */
+    public static DriverContext current() {
+        return bound.get();
+    }
+
+    /**
+     * Bind a context to the current thread
+     * @param context context to bind
+     * @return previously bound context, to restore with another call to bind
+     */
+    public static DriverContext bind(DriverContext context) {
+        DriverContext previous = bound.get();
+        bound.set(context);
+        return previous;
+    }
+
+    DriverSession getSession() {
+        return session;
+    }
+
+    void setSession(DriverSession session) {
+        this.session = session;
+    }
+
+    void addWaitNanos(long nanos) {
+        waitNanos.addAndGet(nanos);
+    }
+
+    long takeWaitNanos() {
+        return waitNanos.getAndSet(0);
+    }
+}
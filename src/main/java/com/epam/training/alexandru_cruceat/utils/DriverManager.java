@@ -6,42 +6,113 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
-
 /**
  * Singleton pattern implementation for managing WebDriver instances
  */
 public class DriverManager {
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
 
     private DriverManager() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Get the WebDriver instance for the current thread
+     * Get the WebDriver instance of the current test, see {@link DriverContext}
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
-        if (driverThreadLocal.get() == null) {
+        DriverContext context = DriverContext.current();
+        if (context.getSession() == null) {
 
             logger.info("Initializing WebDriver for thread: {}", Thread.currentThread().threadId());
-            WebDriver driver = WebDriverFactory.createDriver(DriverConfig.getBrowser());
-            driverThreadLocal.set(driver);
+            String browser = DriverConfig.getBrowser();
+            SessionAdmission.getInstance().acquire(browser);
+            try {
+                // Pooled sessions are built from the global config, so threads with overrides get their own
+                DriverSession session;
+                if (DriverConfig.isDriverPoolEnabled() && !DriverConfig.hasThreadOverrides()) {
+                    session = DriverPool.getInstance().lease(browser);
+                    DriverPrefetcher.getInstance().driverLeased(browser);
+                } else {
+                    session = new DriverSession(WebDriverFactory.createDriver(browser), browser, DriverSession.Ownership.OWNED);
+                }
+                context.setSession(session);
+            } catch (RuntimeException e) {
+                SessionAdmission.getInstance().release();
+                throw e;
+            }
+        }
+        return context.getSession().getDriver();
+    }
+
+    /**
+     * Get the WebDriver instance bound to the current thread without creating one
+     * @return WebDriver instance, or null if the thread has none
+     */
+    public static WebDriver getCurrentDriver() {
+        DriverSession session = DriverContext.current().getSession();
+        return session == null ? null : session.getDriver();
+    }
+
+    /**
+     * Bind a driver created by the caller to the current thread, e.g. an in-memory stub in benchmarks.
+     * The framework never pools or quits it; releaseDriver and quitDriver only unbind it.
+     * @param driver WebDriver instance owned by the caller
+     */
+    public static void setDriver(WebDriver driver) {
+        DriverContext.current().setSession(DriverSession.external(driver));
+    }
+
+    /**
+     * Release the WebDriver instance for the current thread.
+     * Pooled sessions are reset and kept warm for the next test, others are quit.
+     */
+    public static void releaseDriver() {
+        DriverContext context = DriverContext.current();
+        DriverSession session = context.getSession();
+        if (session == null) {
+            return;
+        }
+        FailureArtifacts.getInstance().awaitCapture(session.getDriver());
+        context.setSession(null);
+        switch (session.getOwnership()) {
+            case POOLED -> {
+                logger.info("Returning WebDriver to pool for thread: {}", Thread.currentThread().threadId());
+                DriverPool.getInstance().release(session);
+                SessionAdmission.getInstance().release();
+            }
+            case OWNED -> {
+                logger.info("Quitting WebDriver for thread: {}", Thread.currentThread().threadId());
+                WebDriverFactory.quitDriver(session.getDriver());
+                SessionAdmission.getInstance().release();
+            }
+            case EXTERNAL -> logger.debug("Unbinding external WebDriver for thread: {}", Thread.currentThread().threadId());
         }
-        return driverThreadLocal.get();
     }
 
     /**
      * Quit the WebDriver instance for the current thread
      */
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver != null) {
+        DriverContext context = DriverContext.current();
+        DriverSession session = context.getSession();
+        if (session != null) {
             logger.info("Quitting WebDriver for thread: {}", Thread.currentThread().threadId());
-            driver.quit();
-            driverThreadLocal.remove();
+            FailureArtifacts.getInstance().awaitCapture(session.getDriver());
+            context.setSession(null);
+            switch (session.getOwnership()) {
+                case POOLED -> {
+                    DriverPool.getInstance().discard(session);
+                    SessionAdmission.getInstance().release();
+                }
+                case OWNED -> {
+                    WebDriverFactory.quitDriver(session.getDriver());
+                    SessionAdmission.getInstance().release();
+                }
+                case EXTERNAL -> {
+                    // Owned by the caller
+                }
+            }
         }
     }
 }
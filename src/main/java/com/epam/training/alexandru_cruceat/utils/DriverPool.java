@@ -0,0 +1,299 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.factory.WebDriverFactory;
+import com.epam.training.alexandru_cruceat.network.NetworkInterceptor;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of warm WebDriver sessions keyed by browser type.
+ * Sessions are leased by tests and reset when returned instead of being quit.
+ * Idle sessions are reused most recently returned first, so the ones left unused collect at the tail
+ * of the deque, where they are evicted once idle for too long.
+ */
+public final class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final DriverPool instance = new DriverPool();
+
+    private static final Duration LEASE_TIMEOUT = Duration.ofMinutes(5);
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+                    + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final Map<String, BrowserPool> pools = new ConcurrentHashMap<>();
+    private final int maxSize = DriverConfig.getDriverPoolMaxSize();
+    private final int maxUses = DriverConfig.getDriverPoolMaxUses();
+    private final long maxIdleNanos = DriverConfig.getDriverPoolMaxIdle().toNanos();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder unhealthy = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder retirements = new LongAdder();
+    private final LongAdder prefetched = new LongAdder();
+    private final LongAdder prefetchedUnused = new LongAdder();
+
+    private DriverPool() {
+        ShutdownSequence.register(ShutdownSequence.Phase.SESSIONS, "driver pool", this::shutdown);
+    }
+
+    /**
+     * Get singleton instance
+     * @return DriverPool instance
+     */
+    public static DriverPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Lease a session for the given browser, reusing a warm one when available
+     * @param browserType type of browser
+     * @return leased session
+     */
+    public DriverSession lease(String browserType) {
+        BrowserPool pool = poolFor(browserType);
+        long deadline = System.nanoTime() + LEASE_TIMEOUT.toNanos();
+        evictExpired(pool);
+
+        try {
+            while (System.nanoTime() < deadline) {
+                DriverSession session = pool.idle.pollFirst();
+                if (session == null && pool.capacity.tryAcquire()) {
+                    return createSession(pool, browserType);
+                }
+                if (session == null) {
+                    session = pool.idle.pollFirst(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (session != null && isUsable(session)) {
+                    hits.increment();
+                    session.markLeased();
+                    logger.debug("Reusing pooled {} session (use {})", browserType, session.getUses());
+                    return session;
+                }
+                if (session != null) {
+                    destroy(pool, session);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a " + browserType + " session", e);
+        }
+        throw new IllegalStateException("No " + browserType + " session became available within " + LEASE_TIMEOUT);
+    }
+
+    /**
+     * Return a session to the pool, resetting its browser state
+     * @param session leased session
+     */
+    public void release(DriverSession session) {
+        BrowserPool pool = pools.get(session.getBrowserType().toLowerCase());
+        if (session.getUses() >= maxUses) {
+            logger.debug("Retiring {} session after {} uses", session.getBrowserType(), session.getUses());
+            retirements.increment();
+            destroy(pool, session);
+            return;
+        }
+        if (!reset(session)) {
+            unhealthy.increment();
+            destroy(pool, session);
+            return;
+        }
+        session.markReleased();
+        pool.idle.offerFirst(session);
+        evictExpired(pool);
+    }
+
+    /**
+     * Quit a leased session without returning it to the pool
+     * @param session leased session
+     */
+    public void discard(DriverSession session) {
+        destroy(pools.get(session.getBrowserType().toLowerCase()), session);
+    }
+
+    /**
+     * Reserve capacity for a session that will be created ahead of demand
+     * @param browserType type of browser
+     * @return true if a slot was reserved
+     */
+    boolean reserve(String browserType) {
+        return poolFor(browserType).capacity.tryAcquire();
+    }
+
+    /**
+     * Give back a reservation whose session could not be created
+     * @param browserType type of browser
+     */
+    void cancelReservation(String browserType) {
+        poolFor(browserType).capacity.release();
+    }
+
+    /**
+     * Add a session created ahead of demand on a reserved slot
+     * @param session new session
+     */
+    void addPrefetched(DriverSession session) {
+        prefetched.increment();
+        session.markReleased();
+        poolFor(session.getBrowserType()).idle.offerLast(session);
+    }
+
+    /**
+     * Get number of sessions that are alive, leased or idle
+     * @param browserType type of browser
+     * @return live session count
+     */
+    int liveSessions(String browserType) {
+        return maxSize - poolFor(browserType).capacity.availablePermits();
+    }
+
+    /**
+     * Build a summary of pool usage
+     * @return statistics line
+     */
+    public String getStatistics() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        double hitRate = total == 0 ? 0 : hitCount * 100.0 / total;
+        return String.format("leases=%d, hits=%d, misses=%d, hitRate=%.1f%%, unhealthy=%d, idleEvictions=%d, retired=%d, "
+                        + "prefetched=%d, prefetchedUnused=%d",
+                total, hitCount, misses.sum(), hitRate, unhealthy.sum(), idleEvictions.sum(), retirements.sum(),
+                prefetched.sum(), prefetchedUnused.sum());
+    }
+
+    /**
+     * Quit all idle sessions and report statistics
+     */
+    public void shutdown() {
+        DriverPrefetcher.getInstance().stop();
+        pools.values().forEach(pool -> {
+            DriverSession session;
+            while ((session = pool.idle.pollFirst()) != null) {
+                if (session.getUses() == 0) {
+                    prefetchedUnused.increment();
+                }
+                destroy(pool, session);
+            }
+        });
+        logger.info("Driver pool statistics: {}", getStatistics());
+    }
+
+    private BrowserPool poolFor(String browserType) {
+        return pools.computeIfAbsent(browserType.toLowerCase(), key -> new BrowserPool(maxSize));
+    }
+
+    private DriverSession createSession(BrowserPool pool, String browserType) {
+        misses.increment();
+        try {
+            logger.info("Starting new {} session for pool", browserType);
+            DriverSession session = new DriverSession(WebDriverFactory.createDriver(browserType), browserType);
+            session.markLeased();
+            return session;
+        } catch (RuntimeException e) {
+            pool.capacity.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Quit the sessions at the tail of the idle deque that have been idle for too long
+     */
+    private void evictExpired(BrowserPool pool) {
+        DriverSession oldest;
+        while ((oldest = pool.idle.peekLast()) != null && isExpired(oldest)) {
+            // Another thread may have leased it since the peek
+            if (pool.idle.removeLastOccurrence(oldest)) {
+                logger.debug("Evicting {} session idle for too long", oldest.getBrowserType());
+                idleEvictions.increment();
+                if (oldest.getUses() == 0) {
+                    prefetchedUnused.increment();
+                }
+                destroy(pool, oldest);
+            }
+        }
+    }
+
+    private boolean isExpired(DriverSession session) {
+        return System.nanoTime() - session.getLastReleasedNanos() > maxIdleNanos;
+    }
+
+    private boolean isUsable(DriverSession session) {
+        if (isExpired(session)) {
+            logger.debug("Evicting {} session idle for too long", session.getBrowserType());
+            idleEvictions.increment();
+            return false;
+        }
+        try {
+            session.getDriver().getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Pooled {} session failed health check: {}", session.getBrowserType(), e.getMessage());
+            unhealthy.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Clear cookies and web storage, close extra windows and load a blank page
+     * @param session session to reset
+     * @return true if the session is clean and can be reused
+     */
+    private boolean reset(DriverSession session) {
+        WebDriver driver = session.getDriver();
+        try {
+            String mainWindow = session.getOriginalWindowHandle();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(mainWindow)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(mainWindow);
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.get("about:blank");
+            NetworkInterceptor.resetOverrides(driver);
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Failed to reset {} session, discarding it: {}", session.getBrowserType(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(BrowserPool pool, DriverSession session) {
+        try {
+            WebDriverFactory.quitDriver(session.getDriver());
+        } catch (WebDriverException e) {
+            logger.warn("Error quitting {} session: {}", session.getBrowserType(), e.getMessage());
+        } finally {
+            if (pool != null) {
+                pool.capacity.release();
+                DriverPrefetcher.getInstance().replenish(session.getBrowserType());
+            }
+        }
+    }
+
+    /**
+     * Idle sessions and live-session permits for one browser type
+     */
+    private static final class BrowserPool {
+        private final LinkedBlockingDeque<DriverSession> idle = new LinkedBlockingDeque<>();
+        private final Semaphore capacity;
+
+        private BrowserPool(int maxSize) {
+            this.capacity = new Semaphore(maxSize);
+        }
+    }
+}
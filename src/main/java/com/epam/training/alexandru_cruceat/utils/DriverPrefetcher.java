@@ -0,0 +1,126 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.factory.WebDriverFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts browser sessions ahead of demand on virtual threads and hands them to the driver pool,
+ * so browser startup overlaps with test execution.
+ * Prefetching begins when the first test asks for a driver, so runs without browser tests start none,
+ * and stops once there are at least as many live sessions as tests left to run,
+ * or when SessionAdmission has no room for another browser.
+ */
+public final class DriverPrefetcher {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPrefetcher.class);
+    private static final DriverPrefetcher instance = new DriverPrefetcher();
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("driver-prefetch-", 0).factory());
+    private final AtomicInteger remainingTests = new AtomicInteger();
+    private volatile int targetSessions;
+    private volatile boolean planned;
+    private volatile boolean active;
+
+    private DriverPrefetcher() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get singleton instance
+     * @return DriverPrefetcher instance
+     */
+    public static DriverPrefetcher getInstance() {
+        return instance;
+    }
+
+    /**
+     * Prepare prefetching for a test run; sessions are started once a test first leases a driver
+     * @param parallelism number of tests running at the same time
+     * @param testCount number of tests in the run
+     */
+    public void plan(int parallelism, int testCount) {
+        if (!DriverConfig.isDriverPoolEnabled() || !DriverConfig.isDriverPrefetchEnabled()) {
+            return;
+        }
+        remainingTests.set(testCount);
+        targetSessions = Math.min(parallelism, DriverConfig.getDriverPoolMaxSize());
+        planned = true;
+    }
+
+    /**
+     * Record that a test leased a driver, starting prefetching on the first lease of a planned run
+     * @param browserType type of browser
+     */
+    public void driverLeased(String browserType) {
+        if (!planned || active) {
+            return;
+        }
+        synchronized (this) {
+            if (active) {
+                return;
+            }
+            active = true;
+        }
+        logger.info("Prefetching up to {} {} session(s) for {} remaining test(s)", targetSessions, browserType,
+                remainingTests.get());
+        replenish(browserType);
+    }
+
+    /**
+     * Record that a test finished; prefetching winds down as the run approaches its end
+     */
+    public void testFinished() {
+        remainingTests.decrementAndGet();
+    }
+
+    /**
+     * Start new sessions until the target is reached or no more are needed
+     * @param browserType type of browser
+     */
+    public void replenish(String browserType) {
+        DriverPool pool = DriverPool.getInstance();
+        while (active && needsMore(pool, browserType)) {
+            if (!pool.reserve(browserType)) {
+                return;
+            }
+            executor.execute(() -> prefetch(pool, browserType));
+        }
+    }
+
+    /**
+     * Stop prefetching, e.g. at the end of the run
+     */
+    public void stop() {
+        planned = false;
+        active = false;
+        executor.shutdownNow();
+    }
+
+    private boolean needsMore(DriverPool pool, String browserType) {
+        int live = pool.liveSessions(browserType);
+        return live < targetSessions && live < remainingTests.get()
+                && SessionAdmission.getInstance().hasRoomFor(browserType);
+    }
+
+    private void prefetch(DriverPool pool, String browserType) {
+        try {
+            DriverSession session = new DriverSession(WebDriverFactory.createDriver(browserType), browserType);
+            if (active) {
+                pool.addPrefetched(session);
+                logger.debug("Prefetched {} session", browserType);
+            } else {
+                WebDriverFactory.quitDriver(session.getDriver());
+                pool.cancelReservation(browserType);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to prefetch {} session: {}", browserType, e.getMessage());
+            pool.cancelReservation(browserType);
+        }
+    }
+}
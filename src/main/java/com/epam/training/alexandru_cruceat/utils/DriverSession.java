@@ -0,0 +1,110 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * WebDriver session tracked by the driver pool
+ */
+public final class DriverSession {
+    private final WebDriver driver;
+    private final String browserType;
+    private final String originalWindowHandle;
+    private final Ownership ownership;
+    private int uses;
+    private long lastReleasedNanos;
+
+    /**
+     * Who is responsible for a session once a test releases it
+     */
+    enum Ownership {
+        /** Returned to the driver pool */
+        POOLED,
+        /** Quit by the framework */
+        OWNED,
+        /** Created by the caller, only unbound */
+        EXTERNAL
+    }
+
+    DriverSession(WebDriver driver, String browserType) {
+        this(driver, browserType, Ownership.POOLED);
+    }
+
+    DriverSession(WebDriver driver, String browserType, Ownership ownership) {
+        this.driver = driver;
+        this.browserType = browserType;
+        this.originalWindowHandle = driver.getWindowHandle();
+        this.ownership = ownership;
+        this.lastReleasedNanos = System.nanoTime();
+    }
+
+    /**
+     * Wrap a driver created outside the framework, e.g. a stub in benchmarks
+     * @param driver WebDriver instance owned by the caller
+     * @return session that is never pooled or quit by the framework
+     */
+    static DriverSession external(WebDriver driver) {
+        return new DriverSession(driver, "external", Ownership.EXTERNAL);
+    }
+
+    /**
+     * Get the underlying WebDriver
+     * @return WebDriver instance
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Get the browser type this session was created for
+     * @return browser type
+     */
+    public String getBrowserType() {
+        return browserType;
+    }
+
+    /**
+     * Get who is responsible for the session once it is released
+     * @return ownership
+     */
+    Ownership getOwnership() {
+        return ownership;
+    }
+
+    /**
+     * Get the handle of the window the session was started with
+     * @return window handle
+     */
+    String getOriginalWindowHandle() {
+        return originalWindowHandle;
+    }
+
+    /**
+     * Get number of times this session has been leased
+     * @return lease count
+     */
+    int getUses() {
+        return uses;
+    }
+
+    /**
+     * Record a new lease of this session
+     */
+    void markLeased() {
+        uses++;
+    }
+
+    /**
+     * Record that the session went back to the pool
+     */
+    void markReleased() {
+        lastReleasedNanos = System.nanoTime();
+    }
+
+    /**
+     * Get nanoTime of the last release
+     * @return nanoTime value
+     */
+    long getLastReleasedNanos() {
+        return lastReleasedNanos;
+    }
+}
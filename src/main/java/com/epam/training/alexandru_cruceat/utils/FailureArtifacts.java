@@ -0,0 +1,210 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.logging.TestLogContext;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Saves a screenshot, the page source and the browser console of failed tests.
+ * The browser is read on the test thread, before the driver is released; zipping and writing
+ * to target/artifacts happen on a background writer. When the writer's queue is full the test thread
+ * writes the file itself, and artifacts are skipped once the run's size limit is reached.
+ */
+public final class FailureArtifacts {
+    private static final Logger logger = LoggerFactory.getLogger(FailureArtifacts.class);
+    private static final Path ARTIFACTS_DIR = Path.of("target", "artifacts");
+    private static final int QUEUE_CAPACITY = 8;
+    private static final long CAPTURE_WAIT_SECONDS = 30;
+    private static final long WRITE_WAIT_SECONDS = 60;
+    private static final FailureArtifacts instance = new FailureArtifacts();
+
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("artifact-writer").daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    private final Map<WebDriver, CountDownLatch> capturing = new ConcurrentHashMap<>();
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    private FailureArtifacts() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get singleton instance
+     * @return FailureArtifacts instance
+     */
+    public static FailureArtifacts getInstance() {
+        return instance;
+    }
+
+    /**
+     * Read the artifacts of a failed test from the current thread's driver and queue them for writing
+     * @param testName test display name
+     * @param uniqueId unique test id
+     * @param failure exception the test failed with, or null if unknown
+     */
+    public void capture(String testName, String uniqueId, Throwable failure) {
+        WebDriver driver = DriverManager.getCurrentDriver();
+        if (!DriverConfig.isArtifactsEnabled() || driver == null) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        capturing.put(driver, done);
+        Map<String, byte[]> entries;
+        try {
+            entries = read(driver, testName, failure);
+        } finally {
+            capturing.remove(driver, done);
+            done.countDown();
+        }
+
+        long size = entries.values().stream().mapToLong(bytes -> bytes.length).sum();
+        long limit = DriverConfig.getArtifactsMaxTotalMb() * 1024L * 1024L;
+        if (reservedBytes.addAndGet(size) > limit) {
+            reservedBytes.addAndGet(-size);
+            skipped.incrementAndGet();
+            logger.warn("Artifact size limit of {} MB reached, skipping artifacts of {}",
+                    DriverConfig.getArtifactsMaxTotalMb(), testName);
+            return;
+        }
+        String fileName = TestLogContext.currentFileName();
+        Path file = ARTIFACTS_DIR.resolve((fileName != null ? fileName : TestLogContext.fileNameOf(testName, uniqueId)) + ".zip");
+        pending.incrementAndGet();
+        writer.execute(() -> write(file, entries, size));
+    }
+
+    /**
+     * Wait until no artifacts are being read from a driver, so it is not quit or reset in the middle
+     * @param driver WebDriver instance about to be released
+     */
+    void awaitCapture(WebDriver driver) {
+        CountDownLatch done = capturing.get(driver);
+        if (done == null) {
+            return;
+        }
+        try {
+            if (!done.await(CAPTURE_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Artifact capture still running after {}s, releasing the driver anyway", CAPTURE_WAIT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for queued artifacts to be written, e.g. at the end of the run
+     */
+    public void awaitWrites() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WRITE_WAIT_SECONDS);
+        try {
+            while (pending.get() > 0) {
+                if (System.nanoTime() > deadline) {
+                    logger.warn("{} failure artifact(s) still being written after {}s", pending.get(), WRITE_WAIT_SECONDS);
+                    break;
+                }
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (written.get() + skipped.get() > 0) {
+            logger.info("Failure artifacts: {} written to {}, {} skipped over the size limit",
+                    written.get(), ARTIFACTS_DIR, skipped.get());
+        }
+    }
+
+    private static Map<String, byte[]> read(WebDriver driver, String testName, Throwable failure) {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        StringBuilder info = new StringBuilder()
+                .append("test: ").append(testName).append('\n')
+                .append("time: ").append(Instant.now()).append('\n');
+        try {
+            info.append("url: ").append(driver.getCurrentUrl()).append('\n')
+                    .append("title: ").append(driver.getTitle()).append('\n');
+        } catch (RuntimeException e) {
+            info.append("url: unavailable (").append(e.getMessage()).append(")\n");
+        }
+        if (failure != null) {
+            StringWriter stackTrace = new StringWriter();
+            failure.printStackTrace(new PrintWriter(stackTrace));
+            info.append('\n').append(stackTrace);
+        }
+        entries.put("failure.txt", info.toString().getBytes(StandardCharsets.UTF_8));
+
+        if (driver instanceof TakesScreenshot screenshotTaker) {
+            try {
+                entries.put("screenshot.png", screenshotTaker.getScreenshotAs(OutputType.BYTES));
+            } catch (RuntimeException e) {
+                logger.debug("Could not take screenshot: {}", e.getMessage());
+            }
+        }
+        try {
+            entries.put("page.html", driver.getPageSource().getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            logger.debug("Could not read page source: {}", e.getMessage());
+        }
+        try {
+            StringBuilder console = new StringBuilder();
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                console.append(entry).append('\n');
+            }
+            entries.put("console.log", console.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            // Firefox and some remote nodes do not expose the browser log
+            logger.debug("Browser console unavailable: {}", e.getMessage());
+        }
+        return entries;
+    }
+
+    private void write(Path file, Map<String, byte[]> entries, long reserved) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(file);
+                 ZipOutputStream zip = new ZipOutputStream(out)) {
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    zip.putNextEntry(new ZipEntry(entry.getKey()));
+                    zip.write(entry.getValue());
+                    zip.closeEntry();
+                }
+            }
+            // Only the compressed size counts against the limit
+            reservedBytes.addAndGet(Files.size(file) - reserved);
+            written.incrementAndGet();
+            logger.info("Saved failure artifacts to {}", file);
+        } catch (IOException e) {
+            reservedBytes.addAndGet(-reserved);
+            logger.warn("Could not write failure artifacts to {}: {}", file, e.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cores, memory and load of the machine running the tests, read from /proc on Linux
+ * with the JVM's OperatingSystemMXBean as fallback elsewhere
+ */
+public final class HostResources {
+    private static final Logger logger = LoggerFactory.getLogger(HostResources.class);
+    private static final Path MEMINFO = Path.of("/proc/meminfo");
+    private static final Path LOADAVG = Path.of("/proc/loadavg");
+    private static final long PAGE_SIZE = 4096;
+    private static final long MB = 1024L * 1024L;
+    // Used until browsers started by this JVM can be measured
+    private static final Map<String, Long> DEFAULT_BROWSER_MEMORY = Map.of(
+            "chrome", 400 * MB,
+            "edge", 400 * MB,
+            "firefox", 500 * MB);
+
+    private HostResources() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @return number of processors available to the JVM
+     */
+    public static int cores() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Get memory that can be used without swapping
+     * @return available memory in bytes
+     */
+    public static long availableMemoryBytes() {
+        try {
+            for (String line : Files.readAllLines(MEMINFO)) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.trace("Could not read {}: {}", MEMINFO, e.getMessage());
+        }
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getFreeMemorySize();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Get the one-minute load average
+     * @return load average, or 0 if unknown
+     */
+    public static double loadAverage() {
+        try {
+            return Double.parseDouble(Files.readString(LOADAVG).split(" ")[0]);
+        } catch (IOException | RuntimeException e) {
+            return Math.max(0, ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage());
+        }
+    }
+
+    /**
+     * Estimate the memory one browser session takes, drivers included.
+     * Measured as the resident memory of the processes this JVM started divided by the live sessions,
+     * or a per-browser default if nothing was started locally.
+     * @param browserType type of browser
+     * @param liveSessions sessions currently open by this JVM
+     * @return estimated memory per session in bytes
+     */
+    public static long browserMemoryBytes(String browserType, int liveSessions) {
+        long fallback = DEFAULT_BROWSER_MEMORY.getOrDefault(browserType.toLowerCase(Locale.ROOT), 500 * MB);
+        if (liveSessions == 0) {
+            return fallback;
+        }
+        long resident = ProcessHandle.current().descendants().mapToLong(HostResources::residentBytes).sum();
+        return resident == 0 ? fallback : Math.max(fallback / 4, resident / liveSessions);
+    }
+
+    /**
+     * Number of browsers this machine can run at once
+     * @param browserType type of browser
+     * @param reservedBytes memory to leave free for the JVM and the system
+     * @param forks JVMs sharing the machine
+     * @return recommended parallelism, at least 1
+     */
+    public static int recommendedParallelism(String browserType, long reservedBytes, int forks) {
+        long byMemory = Math.max(0, availableMemoryBytes() - reservedBytes) / browserMemoryBytes(browserType, 0);
+        // Each session keeps a browser and its driver busy, so more than one per core only adds contention
+        long parallelism = Math.min(cores(), byMemory) / Math.max(1, forks);
+        return (int) Math.max(1, parallelism);
+    }
+
+    private static long residentBytes(ProcessHandle process) {
+        try {
+            // statm: size resident shared ... in pages
+            String[] fields = Files.readString(Path.of("/proc", String.valueOf(process.pid()), "statm")).split(" ");
+            return Long.parseLong(fields[1]) * PAGE_SIZE;
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Waits for the first of several possible page outcomes, e.g. an error banner or the next page.
+ * Outcomes are checked without implicit waits, so a missing element never blocks.
+ * @param <T> outcome type
+ */
+public final class OutcomeResolver<T> {
+    private static final Logger logger = LoggerFactory.getLogger(OutcomeResolver.class);
+
+    // Resolves with the index of the first visible locator, or -1 on timeout
+    private static final String FIRST_VISIBLE_SCRIPT = ScriptLocators.FIND_FUNCTION + """
+            var locators = arguments[0], timeout = arguments[1];
+            var done = arguments[arguments.length - 1];
+            function isVisible(e) {
+                if (!e) return false;
+                var style = window.getComputedStyle(e);
+                if (style.display === 'none' || style.visibility === 'hidden') return false;
+                var rect = e.getBoundingClientRect();
+                return rect.width > 0 && rect.height > 0;
+            }
+            function firstVisible() {
+                for (var i = 0; i < locators.length; i++) {
+                    if (isVisible(find(locators[i]))) return i;
+                }
+                return -1;
+            }
+            var initial = firstVisible();
+            if (initial >= 0) { done(initial); return; }
+            var finished = false, observer, timer, ticker;
+            function finish(result) {
+                if (finished) return;
+                finished = true;
+                observer.disconnect();
+                clearTimeout(timer);
+                clearInterval(ticker);
+                done(result);
+            }
+            function recheck() { var index = firstVisible(); if (index >= 0) finish(index); }
+            observer = new MutationObserver(recheck);
+            observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+            ticker = setInterval(recheck, 50);
+            timer = setTimeout(function () { finish(-1); }, timeout);
+            """;
+
+    private final WebDriver driver;
+    private final List<By> locators = new ArrayList<>();
+    private final List<Supplier<? extends T>> outcomes = new ArrayList<>();
+
+    private OutcomeResolver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Create a resolver for the given driver
+     * @param driver WebDriver instance
+     * @param <T> outcome type
+     * @return new resolver
+     */
+    public static <T> OutcomeResolver<T> forDriver(WebDriver driver) {
+        return new OutcomeResolver<>(driver);
+    }
+
+    /**
+     * Register an outcome produced when the locator becomes visible.
+     * Outcomes registered first win when several are visible at once.
+     * @param locator element signalling the outcome
+     * @param outcome outcome factory
+     * @return this resolver
+     */
+    public OutcomeResolver<T> when(By locator, Supplier<? extends T> outcome) {
+        locators.add(locator);
+        outcomes.add(outcome);
+        return this;
+    }
+
+    /**
+     * Wait until one of the registered outcomes appears
+     * @return the first outcome that appeared
+     */
+    public T resolve() {
+        Duration timeout = DriverConfig.getExplicitWaitTimeout();
+        long start = System.nanoTime();
+        boolean eventDriven = false;
+        try {
+            int index = -1;
+            List<List<String>> scriptLocators = toScriptLocators();
+            if (scriptLocators != null && driver instanceof JavascriptExecutor executor && DriverConfig.isEventDrivenWait()) {
+                index = resolveInBrowser(executor, scriptLocators, timeout);
+                eventDriven = index >= 0;
+            }
+            if (index < 0) {
+                index = resolveByPolling();
+            }
+            logger.debug("Resolved outcome {} ({})", index, locators.get(index));
+            return outcomes.get(index).get();
+        } finally {
+            WaitStats.record("outcome", eventDriven, System.nanoTime() - start);
+        }
+    }
+
+    private List<List<String>> toScriptLocators() {
+        List<List<String>> converted = new ArrayList<>();
+        for (By locator : locators) {
+            List<String> scriptLocator = ScriptLocators.toScript(locator);
+            if (scriptLocator == null) {
+                return null;
+            }
+            converted.add(scriptLocator);
+        }
+        return converted;
+    }
+
+    /**
+     * Resolve in the browser
+     * @return index of the outcome or -1 to fall back to polling
+     */
+    private int resolveInBrowser(JavascriptExecutor executor, List<List<String>> scriptLocators, Duration timeout) {
+        try {
+            Object result = executor.executeAsyncScript(FIRST_VISIBLE_SCRIPT, scriptLocators, timeout.toMillis());
+            int index = result instanceof Number number ? number.intValue() : -1;
+            if (index < 0) {
+                throw new TimeoutException("None of the expected outcomes appeared: " + locators);
+            }
+            return index;
+        } catch (ScriptTimeoutException e) {
+            throw new TimeoutException("None of the expected outcomes appeared: " + locators, e);
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            logger.debug("In-browser outcome resolution unavailable, falling back to polling: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Poll all locators with implicit waits disabled
+     * @return index of the outcome
+     */
+    private int resolveByPolling() {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return WaitUtils.waitUntil(driver, "any of " + locators, d -> {
+                for (int i = 0; i < locators.size(); i++) {
+                    for (WebElement element : d.findElements(locators.get(i))) {
+                        if (element.isDisplayed()) {
+                            return i;
+                        }
+                    }
+                }
+                return null;
+            });
+        } finally {
+            driver.manage().timeouts().implicitlyWait(DriverConfig.getImplicitWaitTimeout());
+        }
+    }
+}
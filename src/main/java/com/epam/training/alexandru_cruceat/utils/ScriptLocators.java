@@ -0,0 +1,45 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Converts locators into a form that injected scripts can resolve in the page
+ */
+public final class ScriptLocators {
+
+    /**
+     * Script function resolving a converted locator: find([strategy, value]) returns the first match or null
+     */
+    public static final String FIND_FUNCTION = """
+            function find(locator) {
+                if (locator[0] === 'xpath') {
+                    return document.evaluate(locator[1], document, null,
+                            XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                }
+                return document.querySelector(locator[1]);
+            }
+            """;
+
+    private ScriptLocators() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Convert a locator to a [strategy, value] pair understood by {@link #FIND_FUNCTION}
+     * @param locator locator to convert
+     * @return converted locator or null if the locator cannot be resolved by script
+     */
+    public static List<String> toScript(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        return switch (parameters.using()) {
+            case "css selector" -> List.of("css", String.valueOf(parameters.value()));
+            case "xpath" -> List.of("xpath", String.valueOf(parameters.value()));
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for browser sessions: a test thread gets a session only while the machine has
+ * memory for another browser and is not overloaded. The limit follows free memory, the measured memory
+ * per browser and the load average during the run, so tests wait instead of making the machine swap.
+ * Sessions started ahead of demand are checked with {@link #hasRoomFor(String)}.
+ * Waiting uses a lock rather than monitors, so virtual threads do not pin their carrier threads.
+ */
+public final class SessionAdmission {
+    private static final Logger logger = LoggerFactory.getLogger(SessionAdmission.class);
+    private static final long REFRESH_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final long WAIT_MILLIS = 500;
+    private static final Duration MAX_WAIT = Duration.ofMinutes(5);
+    private static final double MAX_LOAD_PER_CORE = 1.5;
+    private static final SessionAdmission instance = new SessionAdmission();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private int active;
+    private int limit = Integer.MAX_VALUE;
+    private long refreshedAt;
+    private long throttled;
+
+    private SessionAdmission() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get singleton instance
+     * @return SessionAdmission instance
+     */
+    public static SessionAdmission getInstance() {
+        return instance;
+    }
+
+    /**
+     * Wait until another session may be opened and count it as active.
+     * The first session is always admitted, and nobody waits longer than five minutes.
+     * @param browserType type of browser
+     */
+    public void acquire(String browserType) {
+        lock.lock();
+        try {
+            admit(browserType);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void admit(String browserType) {
+        if (!DriverConfig.isAdmissionControlEnabled()) {
+            active++;
+            return;
+        }
+        long deadline = System.nanoTime() + MAX_WAIT.toNanos();
+        boolean waited = false;
+        while (active > 0 && active >= currentLimit(browserType)) {
+            if (System.nanoTime() > deadline) {
+                logger.warn("Admitting {} session after waiting {} with {} active", browserType, MAX_WAIT, active);
+                break;
+            }
+            if (!waited) {
+                waited = true;
+                throttled++;
+                logger.info("Waiting for resources to open a {} session: {} active, limit {}", browserType, active, limit);
+            }
+            try {
+                released.await(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to open a " + browserType + " session", e);
+            }
+        }
+        active++;
+    }
+
+    /**
+     * Check without waiting whether another browser fits, e.g. one started ahead of demand.
+     * The browser is not counted as active; that happens when a test acquires it.
+     * @param browserType type of browser
+     * @return true if live browsers, including idle pooled ones, stay below the current limit
+     */
+    public boolean hasRoomFor(String browserType) {
+        int live = DriverConfig.isDriverPoolEnabled() ? DriverPool.getInstance().liveSessions(browserType) : 0;
+        if (!DriverConfig.isAdmissionControlEnabled()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            return Math.max(active, live) < currentLimit(browserType);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Count a session as closed or returned, letting a waiting thread in
+     */
+    public void release() {
+        lock.lock();
+        try {
+            active = Math.max(0, active - 1);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of times a thread had to wait for a session
+     */
+    public long getThrottledCount() {
+        lock.lock();
+        try {
+            return throttled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentLimit(String browserType) {
+        long now = System.nanoTime();
+        if (now - refreshedAt < REFRESH_NANOS) {
+            return limit;
+        }
+        refreshedAt = now;
+        int liveBrowsers = Math.max(active, DriverConfig.isDriverPoolEnabled()
+                ? DriverPool.getInstance().liveSessions(browserType) : 0);
+        long perBrowser = HostResources.browserMemoryBytes(browserType, liveBrowsers);
+        long free = HostResources.availableMemoryBytes() - DriverConfig.getAdmissionMemoryReserveMb() * 1024L * 1024L;
+        int byMemory = active + (int) Math.max(0, free / perBrowser);
+        double load = HostResources.loadAverage();
+        int cores = HostResources.cores();
+        // Under heavy load keep the current sessions but start no new ones
+        int byLoad = load > cores * MAX_LOAD_PER_CORE ? active : Integer.MAX_VALUE;
+        int newLimit = Math.max(1, Math.min(byMemory, byLoad));
+        if (newLimit != limit) {
+            logger.debug("Session limit {} -> {} (free {} MB, {} MB per browser, load {})", limit, newLimit,
+                    free / (1024 * 1024), perBrowser / (1024 * 1024), load);
+        }
+        limit = newLimit;
+        return limit;
+    }
+}
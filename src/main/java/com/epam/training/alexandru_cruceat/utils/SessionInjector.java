@@ -0,0 +1,200 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Authenticates drivers without going through the login form.
+ * SauceDemo keeps the logged-in user in a client-side session cookie, so setting that cookie
+ * (or restoring a saved session) is enough to open any page as that user.
+ */
+public final class SessionInjector {
+    private static final Logger logger = LoggerFactory.getLogger(SessionInjector.class);
+
+    public static final String SESSION_COOKIE = "session-username";
+    private static final Path SESSIONS_DIR = Paths.get("target", "sessions");
+    // Small same-origin resource loaded so cookies and storage can be set without rendering the app
+    private static final String ORIGIN_PROBE_PATH = "favicon.ico";
+
+    private static final String READ_STORAGE_SCRIPT = """
+            var storage = window[arguments[0]], entries = {};
+            for (var i = 0; i < storage.length; i++) {
+                var key = storage.key(i);
+                entries[key] = storage.getItem(key);
+            }
+            return entries;
+            """;
+    private static final String WRITE_STORAGE_SCRIPT = """
+            var storage = window[arguments[0]], entries = arguments[1];
+            storage.clear();
+            for (var key in entries) {
+                storage.setItem(key, entries[key]);
+            }
+            """;
+
+    private static final Json json = new Json();
+
+    private SessionInjector() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Log the user in by injecting the session cookie
+     * @param driver WebDriver instance
+     * @param username user to log in as
+     */
+    public static void authenticate(WebDriver driver, String username) {
+        logger.info("Injecting session for user: {}", username);
+        openOrigin(driver);
+        driver.manage().deleteCookieNamed(SESSION_COOKIE);
+        driver.manage().addCookie(new Cookie.Builder(SESSION_COOKIE, username).path("/").build());
+    }
+
+    /**
+     * Capture cookies and web storage of the application origin
+     * @param driver WebDriver instance currently on the application
+     * @return captured session state
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionState capture(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("name", cookie.getName());
+            fields.put("value", cookie.getValue());
+            fields.put("path", cookie.getPath());
+            fields.put("secure", cookie.isSecure());
+            fields.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getExpiry() != null) {
+                fields.put("expiry", cookie.getExpiry().getTime() / 1000);
+            }
+            cookies.add(fields);
+        }
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        return new SessionState(cookies,
+                (Map<String, String>) executor.executeScript(READ_STORAGE_SCRIPT, "localStorage"),
+                (Map<String, String>) executor.executeScript(READ_STORAGE_SCRIPT, "sessionStorage"));
+    }
+
+    /**
+     * Restore a captured session into a driver
+     * @param driver WebDriver instance
+     * @param state session state to restore
+     */
+    public static void restore(WebDriver driver, SessionState state) {
+        logger.info("Restoring session with {} cookie(s)", state.cookies().size());
+        openOrigin(driver);
+        driver.manage().deleteAllCookies();
+        for (Map<String, Object> fields : state.cookies()) {
+            Cookie.Builder builder = new Cookie.Builder((String) fields.get("name"), (String) fields.get("value"))
+                    .path((String) fields.get("path"))
+                    .isSecure(Boolean.TRUE.equals(fields.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(fields.get("httpOnly")));
+            if (fields.get("expiry") instanceof Number expiry) {
+                builder.expiresOn(new Date(expiry.longValue() * 1000));
+            }
+            driver.manage().addCookie(builder.build());
+        }
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        executor.executeScript(WRITE_STORAGE_SCRIPT, "localStorage", state.localStorage());
+        executor.executeScript(WRITE_STORAGE_SCRIPT, "sessionStorage", state.sessionStorage());
+    }
+
+    /**
+     * Save session state to target/sessions/&lt;name&gt;.json
+     * @param state session state
+     * @param name file name without extension
+     * @return path of the written file
+     */
+    public static Path save(SessionState state, String name) {
+        Path file = SESSIONS_DIR.resolve(name + ".json");
+        try {
+            Files.createDirectories(SESSIONS_DIR);
+            Files.writeString(file, json.toJson(Map.of(
+                    "cookies", state.cookies(),
+                    "localStorage", state.localStorage(),
+                    "sessionStorage", state.sessionStorage())));
+            logger.info("Saved session state to {}", file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save session state to " + file, e);
+        }
+    }
+
+    /**
+     * Load session state saved with {@link #save(SessionState, String)}
+     * @param name file name without extension
+     * @return session state; missing sections are empty
+     * @throws IllegalStateException if the file is not a session state
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionState load(String name) {
+        Path file = SESSIONS_DIR.resolve(name + ".json");
+        try {
+            Map<String, Object> raw = json.toType(Files.readString(file), Json.MAP_TYPE);
+            if (raw == null) {
+                throw new IllegalStateException("Session state file " + file + " holds no JSON object");
+            }
+            return new SessionState(section(raw, "cookies", List.class, file),
+                    section(raw, "localStorage", Map.class, file),
+                    section(raw, "sessionStorage", Map.class, file));
+        } catch (JsonException e) {
+            throw new IllegalStateException("Session state file " + file + " is not valid JSON", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load session state from " + file, e);
+        }
+    }
+
+    /**
+     * Read one section of a session state file
+     * @param raw parsed file
+     * @param key section name
+     * @param type List for JSON arrays, Map for JSON objects
+     * @param file file the section was read from, for the error message
+     * @return section, or null if the file has none
+     * @throws IllegalStateException if the section has the wrong type
+     */
+    private static <T> T section(Map<String, Object> raw, String key, Class<T> type, Path file) {
+        Object value = raw.get(key);
+        if (value != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Session state file " + file + ": " + key + " must be a JSON "
+                    + (type == List.class ? "array" : "object"));
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Check if a session state file exists
+     * @param name file name without extension
+     * @return true if the state was saved before
+     */
+    public static boolean exists(String name) {
+        return Files.isRegularFile(SESSIONS_DIR.resolve(name + ".json"));
+    }
+
+    private static void openOrigin(WebDriver driver) {
+        String currentUrl = driver.getCurrentUrl();
+        URI baseUri = URI.create(DriverConfig.getBaseUrl());
+        if (currentUrl == null || !currentUrl.startsWith(baseUri.getScheme() + "://" + baseUri.getAuthority())) {
+            driver.get(baseUri.resolve(ORIGIN_PROBE_PATH).toString());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser session state that can be saved to a file and restored into another driver.
+ * A missing part, e.g. from a file written without sessionStorage, is empty.
+ * @param cookies cookies of the application origin, each as a map of cookie fields
+ * @param localStorage localStorage entries
+ * @param sessionStorage sessionStorage entries
+ */
+public record SessionState(List<Map<String, Object>> cookies,
+                           Map<String, String> localStorage,
+                           Map<String, String> sessionStorage) {
+
+    public SessionState {
+        cookies = cookies == null ? List.of() : List.copyOf(cookies);
+        localStorage = localStorage == null ? Map.of() : Map.copyOf(localStorage);
+        sessionStorage = sessionStorage == null ? Map.of() : Map.copyOf(sessionStorage);
+    }
+}
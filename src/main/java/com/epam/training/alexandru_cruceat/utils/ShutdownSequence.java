@@ -0,0 +1,75 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One JVM shutdown hook running the framework's cleanup in a fixed order.
+ * Separate hooks run concurrently, so e.g. a shared driver service could stop while pooled
+ * sessions on it are still being quit, leaving their browsers behind. Logging is stopped last,
+ * once every step has logged, which flushes the asynchronous appenders.
+ */
+public final class ShutdownSequence {
+    private static final Logger logger = LoggerFactory.getLogger(ShutdownSequence.class);
+    private static final Map<Phase, List<Step>> steps = new EnumMap<>(Phase.class);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ShutdownSequence::run, "framework-shutdown"));
+    }
+
+    /**
+     * Shutdown phases, run in declaration order
+     */
+    public enum Phase {
+        /** Quit browser sessions */
+        SESSIONS,
+        /** Stop driver services the sessions ran on */
+        SERVICES,
+        /** Stop servers started for the run */
+        SERVERS,
+        /** Log end-of-run statistics */
+        STATISTICS
+    }
+
+    private record Step(String name, Runnable action) {
+    }
+
+    private ShutdownSequence() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Add a step to a shutdown phase; steps of one phase run in registration order
+     * @param phase phase to run the step in
+     * @param name step name, used when the step fails
+     * @param action cleanup to run
+     */
+    public static void register(Phase phase, String name, Runnable action) {
+        synchronized (steps) {
+            steps.computeIfAbsent(phase, key -> new ArrayList<>()).add(new Step(name, action));
+        }
+    }
+
+    private static void run() {
+        List<Step> ordered = new ArrayList<>();
+        synchronized (steps) {
+            steps.values().forEach(ordered::addAll);
+        }
+        for (Step step : ordered) {
+            try {
+                step.action().run();
+            } catch (RuntimeException e) {
+                logger.warn("Shutdown step '{}' failed: {}", step.name(), e.getMessage());
+            }
+        }
+        if (LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext) {
+            loggerContext.stop();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.training.alexandru_cruceat.utils;
+
+import com.epam.training.alexandru_cruceat.impact.TestImpact;
+import com.epam.training.alexandru_cruceat.metrics.LatencyMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency statistics for explicit waits, per wait kind and per test.
+ * Per-test totals are kept in the test's {@link DriverContext}, so they add up across the threads its methods run on.
+ */
+public final class WaitStats {
+    private static final Logger logger = LoggerFactory.getLogger(WaitStats.class);
+    private static final Map<String, KindStats> statsByKind = new ConcurrentHashMap<>();
+
+    static {
+        ShutdownSequence.register(ShutdownSequence.Phase.STATISTICS, "wait statistics", WaitStats::logSummary);
+    }
+
+    private WaitStats() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Record a finished wait
+     * @param kind wait kind, e.g. visible or clickable
+     * @param eventDriven true if the wait was resolved in the browser
+     * @param elapsedNanos time spent waiting
+     */
+    static void record(String kind, boolean eventDriven, long elapsedNanos) {
+        statsByKind.computeIfAbsent(kind, key -> new KindStats()).add(eventDriven, elapsedNanos);
+        LatencyMetrics.record(LatencyMetrics.Kind.WAIT, kind, elapsedNanos);
+        DriverContext.current().addWaitNanos(elapsedNanos);
+        // Called from inside WaitUtils, so the wait and the page method that waited are on the stack
+        TestImpact.record();
+    }
+
+    /**
+     * Get the time the current thread's test spent waiting and reset the counter.
+     * Call at the end of a test to get that test's wait time.
+     * @return time spent waiting since the previous call
+     */
+    public static Duration takeCurrentThreadTotal() {
+        return Duration.ofNanos(DriverContext.current().takeWaitNanos());
+    }
+
+    /**
+     * Build a summary line for every wait kind
+     * @return statistics text
+     */
+    public static String getSummary() {
+        StringBuilder summary = new StringBuilder();
+        statsByKind.forEach((kind, stats) -> summary.append(System.lineSeparator())
+                .append(String.format("  %-10s count=%d, event=%d, polling=%d, avg=%.1fms, max=%.1fms",
+                        kind, stats.count.sum(), stats.eventDriven.sum(), stats.count.sum() - stats.eventDriven.sum(),
+                        stats.averageMillis(), stats.maxNanos.get() / 1_000_000.0)));
+        return summary.toString();
+    }
+
+    private static void logSummary() {
+        if (!statsByKind.isEmpty()) {
+            logger.info("Wait statistics:{}", getSummary());
+        }
+    }
+
+    /**
+     * Counters for one wait kind
+     */
+    private static final class KindStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder eventDriven = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void add(boolean event, long elapsedNanos) {
+            count.increment();
+            if (event) {
+                eventDriven.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        private double averageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / (n * 1_000_000.0);
+        }
+    }
+}
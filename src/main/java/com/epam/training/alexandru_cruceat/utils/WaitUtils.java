@@ -1,19 +1,70 @@
 package com.epam.training.alexandru_cruceat.utils;
 
 import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.function.Function;
+
 /**
- * Utility class for explicit waits
+ * Utility class for explicit waits.
+ * Conditions are resolved inside the browser with a MutationObserver when possible,
+ * falling back to polling with adaptive backoff.
  */
 public class WaitUtils {
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
 
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 250;
+    private static final double POLL_BACKOFF = 1.5;
+
+    // Resolves with true when the condition holds, false on timeout and 'stale' if the element was detached
+    private static final String AWAIT_CONDITION_SCRIPT = """
+            var element = arguments[0], kind = arguments[1], text = arguments[2], timeout = arguments[3];
+            var done = arguments[arguments.length - 1];
+            function isVisible(e) {
+                var style = window.getComputedStyle(e);
+                if (style.display === 'none' || style.visibility === 'hidden' || style.opacity === '0') {
+                    return false;
+                }
+                var rect = e.getBoundingClientRect();
+                return rect.width > 0 && rect.height > 0;
+            }
+            function check() {
+                if (!element.isConnected) return 'stale';
+                if (kind === 'visible') return isVisible(element);
+                if (kind === 'clickable') return isVisible(element) && !element.disabled;
+                return (element.innerText || element.textContent || '').indexOf(text) !== -1;
+            }
+            var initial = check();
+            if (initial) { done(initial); return; }
+            var finished = false, observer, timer, ticker;
+            function finish(result) {
+                if (finished) return;
+                finished = true;
+                observer.disconnect();
+                clearTimeout(timer);
+                clearInterval(ticker);
+                done(result);
+            }
+            function recheck() { var result = check(); if (result) finish(result); }
+            observer = new MutationObserver(recheck);
+            observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+            // Style-only changes such as transitions do not produce mutations
+            ticker = setInterval(recheck, 50);
+            timer = setTimeout(function () { finish(false); }, timeout);
+            """;
+
     /**
      * Wait for an element to be visible
      * @param driver WebDriver instance
@@ -22,8 +73,8 @@ public class WaitUtils {
      */
     public static WebElement waitForElementVisible(WebDriver driver, WebElement element) {
         logger.debug("Waiting for element to be visible: {}", element);
-        WebDriverWait wait = new WebDriverWait(driver, DriverConfig.getExplicitWaitTimeout());
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        awaitElement(driver, element, "visible", null, ExpectedConditions.visibilityOf(element));
+        return element;
     }
 
     /**
@@ -34,8 +85,8 @@ public class WaitUtils {
      */
     public static WebElement waitForElementClickable(WebDriver driver, WebElement element) {
         logger.debug("Waiting for element to be clickable: {}", element);
-        WebDriverWait wait = new WebDriverWait(driver, DriverConfig.getExplicitWaitTimeout());
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        awaitElement(driver, element, "clickable", null, ExpectedConditions.elementToBeClickable(element));
+        return element;
     }
 
     /**
@@ -47,7 +98,117 @@ public class WaitUtils {
      */
     public static boolean waitForTextPresent(WebDriver driver, WebElement element, String text) {
         logger.debug("Waiting for text to be present: {} in {}", text, element);
-        WebDriverWait wait = new WebDriverWait(driver,  DriverConfig.getExplicitWaitTimeout());
-        return wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+        awaitElement(driver, element, "text", text, ExpectedConditions.textToBePresentInElement(element, text));
+        return true;
+    }
+
+    /**
+     * Wait until a condition returns a non-null, non-false value, polling with adaptive backoff
+     * @param driver WebDriver instance
+     * @param description condition description used in logs and timeout messages
+     * @param condition condition to evaluate
+     * @param <T> condition result type
+     * @return condition result
+     */
+    public static <T> T waitUntil(WebDriver driver, String description, Function<? super WebDriver, T> condition) {
+        logger.debug("Waiting for condition: {}", description);
+        long start = System.nanoTime();
+        try {
+            return poll(driver, description, condition, start + DriverConfig.getExplicitWaitTimeout().toNanos());
+        } finally {
+            WaitStats.record("custom", false, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Wait for an element condition, trying the in-browser engine first
+     * @param driver WebDriver instance
+     * @param element element to check
+     * @param kind condition kind understood by the in-browser script
+     * @param text expected text for text conditions
+     * @param fallback equivalent condition used when polling
+     */
+    private static void awaitElement(WebDriver driver, WebElement element, String kind, String text,
+                                     Function<? super WebDriver, ?> fallback) {
+        Duration timeout = DriverConfig.getExplicitWaitTimeout();
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        String description = kind + " " + (text == null ? "" : "'" + text + "' in ") + element;
+        boolean eventDriven = false;
+
+        try {
+            if (driver instanceof JavascriptExecutor executor && DriverConfig.isEventDrivenWait()) {
+                eventDriven = awaitInBrowser(executor, element, kind, text, timeout);
+                if (eventDriven) {
+                    return;
+                }
+            }
+            poll(driver, description, fallback, deadline);
+        } finally {
+            WaitStats.record(kind, eventDriven, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Resolve the condition in the browser using a MutationObserver
+     * @return true if the condition was met, false if the caller should fall back to polling
+     */
+    private static boolean awaitInBrowser(JavascriptExecutor executor, WebElement element, String kind, String text,
+                                          Duration timeout) {
+        Object result;
+        try {
+            result = executor.executeAsyncScript(AWAIT_CONDITION_SCRIPT, element, kind, text, timeout.toMillis());
+        } catch (ScriptTimeoutException e) {
+            throw new TimeoutException("Expected condition failed: waiting for " + kind + " of " + element, e);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            logger.debug("Element not attached yet, falling back to polling: {}", element);
+            return false;
+        } catch (WebDriverException e) {
+            logger.debug("In-browser wait unavailable, falling back to polling: {}", e.getMessage());
+            return false;
+        }
+
+        if (Boolean.TRUE.equals(result)) {
+            return true;
+        }
+        if (Boolean.FALSE.equals(result)) {
+            throw new TimeoutException("Expected condition failed: waiting for " + kind + " of " + element
+                    + " (tried for " + timeout.toSeconds() + " second(s))");
+        }
+        // Element was detached, the proxy will resolve it again while polling
+        return false;
+    }
+
+    /**
+     * Poll a condition with adaptive backoff until it holds or the deadline passes
+     */
+    private static <T> T poll(WebDriver driver, String description, Function<? super WebDriver, T> condition,
+                              long deadline) {
+        long interval = MIN_POLL_MILLIS;
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new TimeoutException("Expected condition failed: waiting for " + description, lastError);
+            }
+            sleep(Math.min(interval, Math.max(1, (deadline - System.nanoTime()) / 1_000_000)));
+            interval = Math.min(MAX_POLL_MILLIS, (long) (interval * POLL_BACKOFF));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
     }
 }
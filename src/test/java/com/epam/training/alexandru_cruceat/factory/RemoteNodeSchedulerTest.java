@@ -0,0 +1,191 @@
+package com.epam.training.alexandru_cruceat.factory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks session scheduling against stand-ins of a selenium-server standalone node,
+ * which answer /status and the new-session and delete-session commands without a browser
+ */
+@DisplayName("Remote Node Scheduler Tests")
+class RemoteNodeSchedulerTest {
+    private static final BrowserTemplate FIREFOX = new BrowserTemplate("firefox", new FirefoxOptions());
+
+    private final List<StandaloneStandIn> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(StandaloneStandIn::stop);
+    }
+
+    @Test
+    @DisplayName("New sessions go to the node with the most free slots")
+    void testSessionGoesToLeastLoadedNode() throws IOException {
+        StandaloneStandIn busy = start(2, 1, true);
+        StandaloneStandIn idle = start(2, 0, true);
+        RemoteNodeScheduler scheduler = new RemoteNodeScheduler(List.of(busy.url(), idle.url()));
+
+        WebDriver driver = scheduler.createSession(FIREFOX);
+
+        assertThat(idle.sessions()).hasSize(1);
+        assertThat(busy.sessions()).isEmpty();
+        driver.quit();
+        scheduler.release(driver);
+        assertThat(idle.sessions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("A node refusing a session is skipped for the next node")
+    void testRefusingNodeIsSkipped() throws IOException {
+        StandaloneStandIn refusing = start(4, 0, false);
+        StandaloneStandIn accepting = start(2, 1, true);
+        RemoteNodeScheduler scheduler = new RemoteNodeScheduler(List.of(refusing.url(), accepting.url()));
+
+        WebDriver driver = scheduler.createSession(FIREFOX);
+
+        assertThat(refusing.refused()).isEqualTo(1);
+        assertThat(accepting.sessions()).hasSize(1);
+        driver.quit();
+        scheduler.release(driver);
+    }
+
+    @Test
+    @DisplayName("Released slots are reused without waiting for the next status read")
+    void testReleasedSlotIsReused() throws IOException {
+        StandaloneStandIn node = start(1, 0, true);
+        RemoteNodeScheduler scheduler = new RemoteNodeScheduler(List.of(node.url()));
+
+        WebDriver first = scheduler.createSession(FIREFOX);
+        first.quit();
+        scheduler.release(first);
+        WebDriver second = scheduler.createSession(FIREFOX);
+
+        assertThat(node.created()).isEqualTo(2);
+        second.quit();
+        scheduler.release(second);
+    }
+
+    private StandaloneStandIn start(int slots, int busySlots, boolean acceptsSessions) throws IOException {
+        StandaloneStandIn node = new StandaloneStandIn(slots, busySlots, acceptsSessions);
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * Minimal selenium-server standalone: firefox slots reported on /status, sessions tracked by id
+     */
+    private static final class StandaloneStandIn {
+        private final Json json = new Json();
+        private final HttpServer server;
+        private final int slots;
+        private final int busySlots;
+        private final boolean acceptsSessions;
+        private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger refused = new AtomicInteger();
+
+        private StandaloneStandIn(int slots, int busySlots, boolean acceptsSessions) throws IOException {
+            this.slots = slots;
+            this.busySlots = busySlots;
+            this.acceptsSessions = acceptsSessions;
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            this.server.createContext("/", this::handle);
+            this.server.start();
+        }
+
+        String url() {
+            return "http://localhost:" + server.getAddress().getPort() + "/";
+        }
+
+        Set<String> sessions() {
+            return sessions;
+        }
+
+        int created() {
+            return created.get();
+        }
+
+        int refused() {
+            return refused.get();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String method = exchange.getRequestMethod();
+                String path = exchange.getRequestURI().getPath();
+                if ("GET".equals(method) && path.equals("/status")) {
+                    respond(exchange, 200, Map.of("ready", true, "nodes", List.of(Map.of("availability", "UP", "slots", slots()))));
+                } else if ("POST".equals(method) && path.equals("/session")) {
+                    exchange.getRequestBody().readAllBytes();
+                    newSession(exchange);
+                } else if ("DELETE".equals(method) && path.startsWith("/session/")) {
+                    sessions.remove(path.substring("/session/".length()));
+                    respond(exchange, 200, null);
+                } else {
+                    respond(exchange, 404, Map.of("error", "unknown command", "message", method + " " + path));
+                }
+            }
+        }
+
+        private List<Map<String, Object>> slots() {
+            List<Map<String, Object>> slotStatus = new ArrayList<>();
+            int inUse = busySlots + sessions.size();
+            for (int i = 0; i < slots; i++) {
+                Map<String, Object> slot = new HashMap<>();
+                slot.put("stereotype", Map.of("browserName", "firefox"));
+                slot.put("session", i < inUse ? Map.of("sessionId", "busy-" + i) : null);
+                slotStatus.add(slot);
+            }
+            return slotStatus;
+        }
+
+        private void newSession(HttpExchange exchange) throws IOException {
+            if (!acceptsSessions || busySlots + sessions.size() >= slots) {
+                refused.incrementAndGet();
+                respond(exchange, 500, Map.of("error", "session not created", "message", "No free slot"));
+                return;
+            }
+            String sessionId = UUID.randomUUID().toString();
+            sessions.add(sessionId);
+            created.incrementAndGet();
+            respond(exchange, 200, Map.of("sessionId", sessionId, "capabilities", Map.of("browserName", "firefox")));
+        }
+
+        private void respond(HttpExchange exchange, int status, Object value) throws IOException {
+            Map<String, Object> body = new HashMap<>();
+            body.put("value", value);
+            byte[] bytes = json.toJson(body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+    }
+}
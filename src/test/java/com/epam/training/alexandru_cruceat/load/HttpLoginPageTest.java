@@ -0,0 +1,50 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import com.epam.training.alexandru_cruceat.Constants.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the HTTP login repeats the credential checks of the application's script.
+ * Rejected logins send no request, so no server is needed.
+ */
+@DisplayName("HTTP Login Page Tests")
+class HttpLoginPageTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final HttpLoginPage loginPage = new HttpLoginPage(new VirtualUser(client, "http://localhost:9/"));
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Missing username or password is rejected")
+    void testRequiredFields() {
+        assertFailure(loginPage.login("", "secret_sauce"), Constants.USERNAME_REQUIRED_ERROR);
+        assertFailure(loginPage.login("standard_user", ""), Constants.PASSWORD_REQUIRED_ERROR);
+    }
+
+    @Test
+    @DisplayName("Unknown users and wrong passwords are rejected")
+    void testInvalidCredentials() {
+        assertFailure(loginPage.login("unknown_user", "secret_sauce"), Constants.INVALID_CREDENTIALS_ERROR);
+        assertFailure(loginPage.login("standard_user", "wrong_password"), Constants.INVALID_CREDENTIALS_ERROR);
+    }
+
+    @Test
+    @DisplayName("The locked out user is rejected")
+    void testLockedOutUser() {
+        assertFailure(loginPage.login("locked_out_user", "secret_sauce"), Constants.LOCKED_OUT_ERROR);
+    }
+
+    private void assertFailure(HttpLoginResult result, String error) {
+        assertThat(result).isEqualTo(new HttpLoginResult.Failure(loginPage));
+        assertThat(loginPage.getErrorMessage()).isEqualTo("Epic sadface: " + error);
+    }
+}
@@ -0,0 +1,77 @@
+package com.epam.training.alexandru_cruceat.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Checks the arrival schedule of the open-model load profile
+ */
+@DisplayName("Load Profile Tests")
+class LoadProfileTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final long TOLERANCE = 1_000L;
+
+    @Test
+    @DisplayName("Users arrive on a rising rate during the ramp-up")
+    void testRampUpOffsets() {
+        LoadProfile profile = new LoadProfile(10, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        assertThat(profile.offsetNanos(0)).isZero();
+        // 10 / s reached after 10 s: 10 * t^2 / 20 users by t, so the 8th user is due at 4 s
+        assertThat(profile.offsetNanos(8)).isCloseTo(4 * SECOND, within(TOLERANCE));
+        assertThat(profile.offsetNanos(50)).isCloseTo(10 * SECOND, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("Users arrive at the target rate after the ramp-up")
+    void testSteadyOffsets() {
+        LoadProfile profile = new LoadProfile(10, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        assertThat(profile.offsetNanos(60)).isCloseTo(11 * SECOND, within(TOLERANCE));
+        assertThat(profile.offsetNanos(61) - profile.offsetNanos(60)).isCloseTo(SECOND / 10, within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("Without a ramp-up users arrive at the target rate from the start")
+    void testNoRampUp() {
+        LoadProfile profile = new LoadProfile(5, Duration.ZERO, Duration.ofSeconds(2));
+
+        assertThat(profile.offsetNanos(3)).isCloseTo(600_000_000L, within(TOLERANCE));
+        assertThat(profile.totalArrivals()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Total arrivals cover the ramp-up and the steady part")
+    void testTotalArrivals() {
+        assertThat(new LoadProfile(10, Duration.ofSeconds(10), Duration.ofSeconds(30)).totalArrivals()).isEqualTo(250);
+        // The run ends during the ramp-up
+        assertThat(new LoadProfile(10, Duration.ofSeconds(10), Duration.ofSeconds(4)).totalArrivals()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("The last user starts before the end and the next one would not")
+    void testTotalArrivalsMatchOffsets() {
+        LoadProfile profile = new LoadProfile(7, Duration.ofSeconds(3), Duration.ofSeconds(9));
+        long total = profile.totalArrivals();
+
+        assertThat(profile.offsetNanos(total - 1)).isLessThan(profile.duration().toNanos());
+        assertThat(profile.offsetNanos(total)).isGreaterThanOrEqualTo(profile.duration().toNanos() - TOLERANCE);
+    }
+
+    @Test
+    @DisplayName("Invalid rates and durations are rejected")
+    void testValidation() {
+        assertThatThrownBy(() -> new LoadProfile(0, Duration.ZERO, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoadProfile(1, Duration.ofSeconds(-1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LoadProfile(1, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.epam.training.alexandru_cruceat.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the bucket layout and quantile math of the latency histogram
+ */
+@DisplayName("Latency Histogram Tests")
+class LatencyHistogramTest {
+    private static final long MICROS = 1_000L;
+
+    @Test
+    @DisplayName("An empty histogram reports zero")
+    void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtQuantile(0.5)).isZero();
+    }
+
+    @Test
+    @DisplayName("Values below 16 microseconds are exact")
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 0; micros < 16; micros++) {
+            histogram.record(micros * MICROS);
+        }
+
+        assertThat(histogram.getValueAtQuantile(0.5)).isEqualTo(7);
+        assertThat(histogram.getValueAtQuantile(0.0)).isZero();
+        assertThat(histogram.getValueAtQuantile(1.0)).isEqualTo(15);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {16, 17, 100, 1_000, 4_097, 65_535, 1_000_000, 123_456_789})
+    @DisplayName("Larger values are reported within one sub-bucket, about 6% above")
+    void testRelativeError(long micros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(micros * MICROS);
+        // A second, larger value keeps the recorded maximum from capping the bucket bound
+        histogram.record(micros * 4 * MICROS);
+
+        assertThat(histogram.getValueAtQuantile(0.5)).isBetween(micros, micros + micros / 16);
+    }
+
+    @Test
+    @DisplayName("Quantiles are the upper bound of the bucket holding the rank, capped at the maximum")
+    void testQuantiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100; micros++) {
+            histogram.record(micros * 1_000 * MICROS);
+        }
+
+        assertThat(histogram.getValueAtQuantile(0.5)).isBetween(50_000L, 53_125L);
+        assertThat(histogram.getValueAtQuantile(0.99)).isBetween(99_000L, 100_000L);
+        assertThat(histogram.getValueAtQuantile(1.0)).isEqualTo(100_000);
+        assertThat(histogram.getMaxMicros()).isEqualTo(100_000);
+        assertThat(histogram.getSumMicros()).isEqualTo(5_050_000);
+    }
+
+    @Test
+    @DisplayName("Values past the last bucket and negative values are clamped")
+    void testOutOfRange() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5 * MICROS);
+        histogram.record((1L << 40) * MICROS);
+
+        assertThat(histogram.getValueAtQuantile(0.5)).isZero();
+        assertThat(histogram.getValueAtQuantile(1.0)).isEqualTo(1L << 40);
+    }
+
+    @Test
+    @DisplayName("Adding a histogram merges counts, sum, maximum and buckets")
+    void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10 * MICROS);
+        second.record(10 * MICROS);
+        second.record(2_000 * MICROS);
+
+        first.add(second);
+
+        assertThat(first.getCount()).isEqualTo(3);
+        assertThat(first.getSumMicros()).isEqualTo(2_020);
+        assertThat(first.getMaxMicros()).isEqualTo(2_000);
+        assertThat(first.getValueAtQuantile(0.5)).isEqualTo(10);
+        assertThat(first.getValueAtQuantile(1.0)).isEqualTo(2_000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.epam.training.alexandru_cruceat.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the XPath locators the annotation processor rewrites to CSS, and the ones it must keep
+ */
+@DisplayName("XPath To CSS Tests")
+class XPathToCssTest {
+
+    @Test
+    @DisplayName("An id predicate on any element becomes an id selector")
+    void testIdPredicate() {
+        assertThat(XPathToCss.rewrite("//*[@id='main']")).hasValue("#main");
+        assertThat(XPathToCss.isIdSelector("#main")).isTrue();
+        assertThat(XPathToCss.rewrite("//div[@id='main']")).hasValue("div#main");
+        assertThat(XPathToCss.isIdSelector("div#main")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Ids that are not CSS identifiers become attribute selectors")
+    void testIdThatIsNotAnIdentifier() {
+        assertThat(XPathToCss.rewrite("//*[@id='1st item']")).hasValue("[id='1st item']");
+        assertThat(XPathToCss.isIdSelector("[id='1st item']")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Predicate chains become chained attribute selectors")
+    void testPredicateChain() {
+        assertThat(XPathToCss.rewrite("//input[@data-test='username']")).hasValue("input[data-test='username']");
+        assertThat(XPathToCss.rewrite("//input[@type='text'][@disabled]")).hasValue("input[type='text'][disabled]");
+        assertThat(XPathToCss.rewrite("//*[@data-test=\"error\"]")).hasValue("[data-test='error']");
+    }
+
+    @Test
+    @DisplayName("// becomes a descendant and / a child combinator")
+    void testCombinators() {
+        assertThat(XPathToCss.rewrite("//form//input")).hasValue("form input");
+        assertThat(XPathToCss.rewrite("//ul/li[@class='item']")).hasValue("ul > li[class='item']");
+        assertThat(XPathToCss.rewrite("//div[@id='cart']/span//a")).hasValue("div#cart > span a");
+    }
+
+    @Test
+    @DisplayName("Values with quotes or backslashes are quoted for CSS")
+    void testQuoting() {
+        assertThat(XPathToCss.rewrite("//*[@title=\"it's\"]")).hasValue("[title=\"it's\"]");
+        assertThat(XPathToCss.rewrite("//*[@title='a\\b']")).hasValue("[title='a\\\\b']");
+        assertThat(XPathToCss.rewrite("//*[@title=\"it's \\\\\"]")).hasValue("[title=\"it's \\\\\\\\\"]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "//div[contains(@class,'item')]",
+            "//li[1]",
+            "//li[last()]",
+            "//a/text()",
+            "//span[text()='Login']",
+            "//div/..",
+            "//div/following-sibling::span",
+            "//input[@id = 'x']",
+            "//input [@id='x']",
+            "/html/body",
+            ".//div",
+            "//div[@class='open",
+            "//"
+    })
+    @DisplayName("Functions, positions, axes, whitespace and malformed XPath are not rewritten")
+    void testRejected(String xpath) {
+        assertThat(XPathToCss.rewrite(xpath)).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+package com.epam.training.alexandru_cruceat.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the local app server only serves files inside its snapshot
+ */
+@DisplayName("Local App Server Tests")
+class LocalAppServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private LocalAppServer server;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Request paths are kept inside the served root")
+    void testRelativePath() {
+        assertThat(LocalAppServer.relativePath("static/app.js")).isEqualTo("static/app.js");
+        assertThat(LocalAppServer.relativePath("static/../index.html")).isEqualTo("index.html");
+        assertThat(LocalAppServer.relativePath("/etc/hostname")).isNull();
+        assertThat(LocalAppServer.relativePath("../secret.txt")).isNull();
+        assertThat(LocalAppServer.relativePath("static/../../secret.txt")).isNull();
+        assertThat(LocalAppServer.relativePath("..\\secret.txt")).isNull();
+    }
+
+    @Test
+    @DisplayName("Files of the snapshot directory are served")
+    void testServesSnapshotFile() throws Exception {
+        server = new LocalAppServer(snapshot(), null, 0);
+
+        HttpResponse<String> response = get("/static/app.js");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("app();");
+    }
+
+    @Test
+    @DisplayName("Encoded absolute and parent paths do not leave the snapshot directory")
+    void testRejectsPathsOutsideSnapshot() throws Exception {
+        Files.writeString(tempDir.resolve("secret.txt"), "secret");
+        server = new LocalAppServer(snapshot(), null, 0);
+
+        assertThat(rawStatus("/%2F" + tempDir.resolve("secret.txt").toString().substring(1).replace("/", "%2F"))).isEqualTo(404);
+        assertThat(rawStatus("/..%2Fsecret.txt")).isEqualTo(404);
+        assertThat(rawStatus("/static%2F..%2F..%2Fsecret.txt")).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Encoded absolute paths are not served from the classpath snapshot")
+    void testRejectsAbsolutePathsOnClasspath() throws Exception {
+        server = new LocalAppServer(null, "snapshot", 0);
+
+        assertThat(get("/").statusCode()).isEqualTo(200);
+        assertThat(rawStatus("/%2Fetc%2Fhostname")).isEqualTo(404);
+        assertThat(rawStatus("/..%2Flogback.xml")).isEqualTo(404);
+    }
+
+    private Path snapshot() throws IOException {
+        Path root = Files.createDirectories(tempDir.resolve("snapshot"));
+        Files.writeString(root.resolve("index.html"), "<html></html>");
+        Files.createDirectories(root.resolve("static"));
+        Files.writeString(root.resolve("static/app.js"), "app();");
+        return root;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(server.getBaseUrl() + path.substring(1))).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Send a request line as written, since HTTP clients normalize or reject encoded separators
+     */
+    private int rawStatus(String rawPath) throws IOException {
+        URI base = URI.create(server.getBaseUrl());
+        try (Socket socket = new Socket(base.getHost(), base.getPort())) {
+            socket.getOutputStream().write(("GET " + rawPath + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            String statusLine = new String(socket.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).lines()
+                    .findFirst().orElse("");
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+}
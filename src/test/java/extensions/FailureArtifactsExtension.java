@@ -0,0 +1,28 @@
+package extensions;
+
+import com.epam.training.alexandru_cruceat.utils.FailureArtifacts;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+/**
+ * Captures failure artifacts as soon as a test or its setup throws, before @AfterEach releases the driver
+ */
+public class FailureArtifactsExtension implements TestExecutionExceptionHandler, LifecycleMethodExecutionExceptionHandler {
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context, throwable);
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context, throwable);
+        throw throwable;
+    }
+
+    private static void capture(ExtensionContext context, Throwable throwable) {
+        FailureArtifacts.getInstance().capture(context.getDisplayName(), context.getUniqueId(), throwable);
+    }
+}
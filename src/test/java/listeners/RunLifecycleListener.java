@@ -0,0 +1,61 @@
+package listeners;
+
+import com.epam.training.alexandru_cruceat.impact.TestImpact;
+import com.epam.training.alexandru_cruceat.logging.TestLogContext;
+import com.epam.training.alexandru_cruceat.metrics.LatencyMetrics;
+import com.epam.training.alexandru_cruceat.utils.DriverPrefetcher;
+import com.epam.training.alexandru_cruceat.utils.FailureArtifacts;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import scheduling.AdaptiveParallelismStrategy;
+import scheduling.TestDurations;
+
+import java.nio.file.Path;
+
+/**
+ * Launcher listener that tells the framework how many tests a run has and when they finish
+ */
+public class RunLifecycleListener implements TestExecutionListener {
+    private static final Path METRICS_DIR = Path.of("target", "metrics");
+    private static final String FORKS_KEY = "junit.jupiter.execution.parallel.config.adaptive.forks";
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        int forks = testPlan.getConfigurationParameters().get(FORKS_KEY, Integer::parseInt).orElse(1);
+        int parallelism = AdaptiveParallelismStrategy.parallelism(forks);
+        int testCount = (int) testPlan.countTestIdentifiers(TestIdentifier::isTest);
+        DriverPrefetcher.getInstance().plan(parallelism, testCount);
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            // Called on the thread that runs the test, so metrics recorded there are tagged with it
+            LatencyMetrics.startTest(testIdentifier.getDisplayName());
+            TestLogContext.start(testIdentifier.getDisplayName(), testIdentifier.getUniqueId());
+            TestDurations.started(testIdentifier.getUniqueId());
+            TestImpact.startTest(testIdentifier.getUniqueId());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            LatencyMetrics.endTest();
+            TestImpact.endTest();
+            TestDurations.finished(testIdentifier.getUniqueId(), testIdentifier.getSource().orElse(null));
+            TestLogContext.finish(testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED);
+            DriverPrefetcher.getInstance().testFinished();
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        LatencyMetrics.export(METRICS_DIR);
+        FailureArtifacts.getInstance().awaitWrites();
+        TestDurations.save();
+        TestImpact.save();
+    }
+}
@@ -0,0 +1,71 @@
+package scheduling;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.utils.HostResources;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sizes the test thread pool from the cores and the memory available for browsers, shared between
+ * the Surefire forks given by the "adaptive.forks" parameter. Used by JUnit and Cucumber through
+ * their "custom" parallel strategy; SessionAdmission adjusts the live sessions during the run.
+ * With the driver pool enabled, no more tests run at once than the pool has sessions, since the others
+ * would only wait for a lease; by default the pool is sized from the same calculation.
+ */
+public class AdaptiveParallelismStrategy implements ParallelExecutionConfigurationStrategy {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismStrategy.class);
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        int forks = configurationParameters.get("adaptive.forks", Integer::parseInt).orElse(1);
+        int parallelism = parallelism(forks);
+        logger.info("Running {} tests in parallel ({} cores, {} MB available, {} fork(s))", parallelism,
+                HostResources.cores(), HostResources.availableMemoryBytes() / (1024 * 1024), forks);
+        return new Configuration(parallelism);
+    }
+
+    /**
+     * @param forks JVMs sharing the machine
+     * @return number of tests to run in parallel in this JVM, at most the pool size with the pool enabled
+     */
+    public static int parallelism(int forks) {
+        int recommended = HostResources.recommendedParallelism(DriverConfig.getBrowser(),
+                DriverConfig.getAdmissionMemoryReserveMb() * 1024L * 1024L, forks);
+        return DriverConfig.isDriverPoolEnabled() ? Math.min(recommended, DriverConfig.getDriverPoolMaxSize()) : recommended;
+    }
+
+    /**
+     * Fixed-size configuration, with the same pool headroom JUnit gives its own strategies
+     */
+    private record Configuration(int parallelism) implements ParallelExecutionConfiguration {
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism + 256;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return KEEP_ALIVE_SECONDS;
+        }
+    }
+}
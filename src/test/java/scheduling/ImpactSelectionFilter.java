@@ -0,0 +1,191 @@
+package scheduling;
+
+import com.epam.training.alexandru_cruceat.config.DriverConfig;
+import com.epam.training.alexandru_cruceat.impact.TestImpact;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * With impact.selection.enabled=true, runs only the tests affected by the files changed since impact.base.ref,
+ * according to the methods each test ran in previous runs (see {@link TestImpact}).
+ * A test is selected if it used a changed page object or utility, if its own class or feature file changed,
+ * or if it has no record yet. Changes to shared infrastructure, e.g. DriverManager, WebDriverFactory,
+ * configuration or the build, to classes no test has recorded, or a failing git command run the full suite.
+ */
+public class ImpactSelectionFilter implements PostDiscoveryFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ImpactSelectionFilter.class);
+    private static final String MAIN_SOURCES = "src/main/java/";
+    private static final String TEST_SOURCES = "src/test/java/";
+    private static final String TEST_RESOURCES = "src/test/resources/";
+    private static final String FRAMEWORK_DIR = MAIN_SOURCES + "com/epam/training/alexandru_cruceat/";
+    // Used by every test, whether or not they show up in the recorded stacks
+    private static final List<String> INFRASTRUCTURE = List.of(
+            FRAMEWORK_DIR + "config/",
+            FRAMEWORK_DIR + "factory/",
+            FRAMEWORK_DIR + "impact/",
+            FRAMEWORK_DIR + "logging/",
+            FRAMEWORK_DIR + "metrics/",
+            FRAMEWORK_DIR + "network/",
+            FRAMEWORK_DIR + "processor/",
+            FRAMEWORK_DIR + "server/",
+            FRAMEWORK_DIR + "utils/Driver",
+            FRAMEWORK_DIR + "utils/Session",
+            FRAMEWORK_DIR + "pages/BasePage.java",
+            "src/main/resources/",
+            "pom.xml");
+    // Tools run outside the test suite
+    private static final List<String> NOT_USED_BY_TESTS = List.of(
+            FRAMEWORK_DIR + "load/");
+
+    private Selection selection;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!descriptor.isTest() || !DriverConfig.isImpactSelectionEnabled()) {
+            return FilterResult.included("impact selection not applied");
+        }
+        if (selection == null) {
+            selection = Selection.compute();
+        }
+        return selection.apply(descriptor);
+    }
+
+    private record Selection(String fullSuiteReason, Map<String, Set<String>> recorded, Set<String> changedClasses,
+                             Set<String> changedTestClasses, Set<String> changedFeatures, boolean stepsChanged) {
+
+        static Selection compute() {
+            String baseRef = DriverConfig.getImpactBaseRef();
+            List<String> changedFiles;
+            try {
+                changedFiles = new ArrayList<>(git("diff", "--name-only", "--relative", baseRef));
+                changedFiles.addAll(git("ls-files", "--others", "--exclude-standard"));
+            } catch (IOException e) {
+                return fullSuite("git failed: " + e.getMessage());
+            }
+            Map<String, Set<String>> recorded = TestImpact.load();
+            if (recorded.isEmpty()) {
+                return fullSuite("no impact records yet");
+            }
+            Set<String> recordedClasses = recorded.values().stream().flatMap(Set::stream)
+                    .map(TestImpact::classOf).collect(Collectors.toSet());
+
+            Set<String> changedClasses = new HashSet<>();
+            Set<String> changedTestClasses = new HashSet<>();
+            Set<String> changedFeatures = new HashSet<>();
+            boolean stepsChanged = false;
+            for (String file : changedFiles) {
+                if (NOT_USED_BY_TESTS.stream().anyMatch(file::startsWith)) {
+                    continue;
+                } else if (INFRASTRUCTURE.stream().anyMatch(file::startsWith)) {
+                    return fullSuite(file + " is shared infrastructure");
+                } else if (file.startsWith(MAIN_SOURCES) && file.endsWith(".java")) {
+                    String className = classNameOf(file, MAIN_SOURCES);
+                    if (!recordedClasses.contains(className)) {
+                        return fullSuite(file + " is not in any impact record");
+                    }
+                    changedClasses.add(className);
+                } else if (file.startsWith(TEST_SOURCES + "tests/")) {
+                    changedTestClasses.add(classNameOf(file, TEST_SOURCES));
+                } else if (file.startsWith(TEST_SOURCES + "steps/")) {
+                    stepsChanged = true;
+                } else if (file.startsWith(TEST_RESOURCES) && file.endsWith(".feature")) {
+                    changedFeatures.add(file.substring(TEST_RESOURCES.length()));
+                } else if (file.startsWith("src/main/") || file.startsWith("src/test/")) {
+                    return fullSuite(file + " is shared test infrastructure");
+                }
+                // Anything else, e.g. docs or benchmarks, does not affect tests
+            }
+            logger.info("Impact selection against {}: {} changed file(s), changed classes {}, test classes {}, features {}{}",
+                    baseRef, changedFiles.size(), changedClasses, changedTestClasses, changedFeatures,
+                    stepsChanged ? ", step definitions" : "");
+            return new Selection(null, recorded, changedClasses, changedTestClasses, changedFeatures, stepsChanged);
+        }
+
+        private static Selection fullSuite(String reason) {
+            logger.info("Impact selection runs the full suite: {}", reason);
+            return new Selection(reason, Map.of(), Set.of(), Set.of(), Set.of(), false);
+        }
+
+        FilterResult apply(TestDescriptor descriptor) {
+            if (fullSuiteReason != null) {
+                return FilterResult.included(fullSuiteReason);
+            }
+            Set<String> methods = recorded.get(descriptor.getUniqueId().toString());
+            if (methods == null) {
+                return FilterResult.included("no impact record");
+            }
+            TestSource source = descriptor.getSource().orElse(null);
+            if (source instanceof MethodSource method && changedTestClasses.contains(topLevel(method.getClassName()))
+                    || source instanceof ClassSource clazz && changedTestClasses.contains(topLevel(clazz.getClassName()))) {
+                return FilterResult.included("test class changed");
+            }
+            if (isCucumber(descriptor) && (stepsChanged || changedFeatures.stream().anyMatch(feature -> isIn(source, feature)))) {
+                return FilterResult.included("feature or step definitions changed");
+            }
+            if (methods.stream().map(TestImpact::classOf).anyMatch(changedClasses::contains)) {
+                return FilterResult.included("uses a changed class");
+            }
+            logger.debug("Skipping {}: not affected by the changes", descriptor.getDisplayName());
+            return FilterResult.excluded("not affected by the changes");
+        }
+
+        private static boolean isCucumber(TestDescriptor descriptor) {
+            return descriptor.getUniqueId().getSegments().stream()
+                    .anyMatch(segment -> "engine".equals(segment.getType()) && "cucumber".equals(segment.getValue()));
+        }
+
+        private static boolean isIn(TestSource source, String feature) {
+            if (source instanceof ClasspathResourceSource resource) {
+                return resource.getClasspathResourceName().equals(feature);
+            }
+            return source instanceof FileSource file && file.getFile().toPath().endsWith(feature);
+        }
+
+        private static String classNameOf(String file, String sourceRoot) {
+            return file.substring(sourceRoot.length(), file.length() - ".java".length()).replace('/', '.');
+        }
+
+        private static String topLevel(String className) {
+            int nested = className.indexOf('$');
+            return nested < 0 ? className : className.substring(0, nested);
+        }
+
+        private static List<String> git(String... arguments) throws IOException {
+            List<String> command = new ArrayList<>(List.of("git"));
+            command.addAll(List.of(arguments));
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            List<String> lines;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                lines = reader.lines().filter(line -> !line.isBlank()).toList();
+            }
+            try {
+                if (process.waitFor() != 0) {
+                    throw new IOException(String.join(" ", command) + ": " + String.join(" ", lines));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while running git", e);
+            }
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package scheduling;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Orders test classes by their duration in previous runs, longest first; classes without a recorded
+ * duration go first
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        context.getClassDescriptors().sort(Comparator.comparingLong(LongestFirstClassOrderer::durationOf));
+    }
+
+    private static long durationOf(ClassDescriptor descriptor) {
+        long millis = TestDurations.millisOf(descriptor.getTestClass().getName());
+        return millis < 0 ? Long.MIN_VALUE : -millis;
+    }
+}
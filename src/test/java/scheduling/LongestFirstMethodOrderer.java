@@ -0,0 +1,37 @@
+package scheduling;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Orders test methods by their duration in previous runs, longest first, so parallel workers
+ * start the slow tests early and finish at about the same time. Methods without a recorded
+ * duration go first, since they may be the slowest.
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        String className = context.getTestClass().getName();
+        context.getMethodDescriptors().sort(Comparator.comparingLong(descriptor -> durationOf(className, descriptor)));
+    }
+
+    /**
+     * Keep the configured execution mode; the order only decides which methods start first
+     * @return empty, so methods of a class still run concurrently
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+
+    private static long durationOf(String className, MethodDescriptor descriptor) {
+        long millis = TestDurations.millisOf(className + "#" + descriptor.getMethod().getName());
+        return millis < 0 ? Long.MIN_VALUE : -millis;
+    }
+}
@@ -0,0 +1,127 @@
+package scheduling;
+
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test durations of previous runs, stored in target/test-durations.properties.
+ * Keys are a test class, a test method (class#method, summing all invocations) or the unique id of a test
+ * without a method, e.g. a Cucumber scenario. Stored values are an exponential moving average: each run
+ * is averaged with the stored value, so the latest run weighs half and older runs fade out.
+ * Several Surefire forks can save to the same file.
+ */
+public final class TestDurations {
+    private static final Logger logger = LoggerFactory.getLogger(TestDurations.class);
+    private static final Path FILE = Path.of("target", "test-durations.properties");
+    private static final Path LOCK_FILE = Path.of("target", "test-durations.lock");
+    private static final Map<String, Long> previous = load();
+    private static final Map<String, LongAdder> current = new ConcurrentHashMap<>();
+    private static final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    private TestDurations() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the duration of a test class, method or test in previous runs
+     * @param key class name, class#method or unique id
+     * @return duration in milliseconds, or -1 if unknown
+     */
+    public static long millisOf(String key) {
+        return previous.getOrDefault(key, -1L);
+    }
+
+    /**
+     * Record that a test started
+     * @param uniqueId unique test id
+     */
+    public static void started(String uniqueId) {
+        startTimes.put(uniqueId, System.nanoTime());
+    }
+
+    /**
+     * Record that a test finished
+     * @param uniqueId unique test id
+     * @param source test source, used to add the duration to its method and class
+     */
+    public static void finished(String uniqueId, TestSource source) {
+        Long start = startTimes.remove(uniqueId);
+        if (start == null) {
+            return;
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        if (source instanceof MethodSource method) {
+            add(method.getClassName() + "#" + method.getMethodName(), millis);
+            add(method.getClassName(), millis);
+        } else {
+            add(uniqueId, millis);
+        }
+    }
+
+    private static void add(String key, long millis) {
+        current.computeIfAbsent(key, k -> new LongAdder()).add(millis);
+    }
+
+    /**
+     * Merge this run's durations into the file
+     */
+    public static void save() {
+        if (current.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(FILE.toAbsolutePath().getParent());
+            // Forks finishing at the same time take turns, so none of them loses the others' durations
+            try (FileChannel lockChannel = FileChannel.open(LOCK_FILE, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released when the channel is closed
+                lockChannel.lock();
+                Properties stored = read();
+                current.forEach((key, millis) -> {
+                    String old = stored.getProperty(key);
+                    long merged = old == null ? millis.sum() : (Long.parseLong(old) + millis.sum()) / 2;
+                    stored.setProperty(key, String.valueOf(merged));
+                });
+                try (Writer writer = Files.newBufferedWriter(FILE)) {
+                    stored.store(writer, "Test durations in milliseconds, exponential moving average over runs");
+                }
+            }
+            logger.info("Saved {} test durations to {}", current.size(), FILE);
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Could not save test durations: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> load() {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        try {
+            read().forEach((key, value) -> durations.put((String) key, Long.parseLong((String) value)));
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Could not read test durations, using discovery order: {}", e.getMessage());
+        }
+        return durations;
+    }
+
+    private static Properties read() throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(FILE)) {
+            try (Reader reader = Files.newBufferedReader(FILE)) {
+                properties.load(reader);
+            }
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,16 @@
+package steps;
+
+import com.epam.training.alexandru_cruceat.utils.FailureArtifacts;
+import io.cucumber.java.After;
+import io.cucumber.java.Scenario;
+
+public class FailureArtifactHooks {
+
+    // Higher order runs first, so this runs before LoginSteps.tearDown releases the driver
+    @After(order = 20000)
+    public void captureOnFailure(Scenario scenario) {
+        if (scenario.isFailed()) {
+            FailureArtifacts.getInstance().capture(scenario.getName(), scenario.getId(), null);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package steps;
 import com.epam.training.alexandru_cruceat.data.TestDataProvider;
 import com.epam.training.alexandru_cruceat.pages.InventoryPage;
 import com.epam.training.alexandru_cruceat.pages.LoginPage;
+import com.epam.training.alexandru_cruceat.pages.LoginResult;
 import com.epam.training.alexandru_cruceat.utils.DriverManager;
+import com.epam.training.alexandru_cruceat.utils.WaitStats;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.en.And;
@@ -29,8 +31,8 @@ public class LoginSteps {
 
     @After
     public void tearDown() {
-        logger.info("Tearing down test");
-        DriverManager.quitDriver();
+        logger.info("Tearing down test, time spent waiting: {} ms", WaitStats.takeCurrentThreadTotal().toMillis());
+        DriverManager.releaseDriver();
     }
 
     @Given("I am on the login page")
@@ -67,9 +69,9 @@ public class LoginSteps {
     @And("I click the login button")
     public void iClickTheLoginButton() {
         logger.info("Clicking login button");
-        Object page = loginPage.clickLoginButton();
-        if (page instanceof InventoryPage) {
-            inventoryPage = (InventoryPage) page;
+        LoginResult result = loginPage.clickLoginButton();
+        if (result instanceof LoginResult.Success success) {
+            inventoryPage = success.inventoryPage();
         }
     }
 
@@ -4,8 +4,12 @@ import com.epam.training.alexandru_cruceat.Constants.Constants;
 import com.epam.training.alexandru_cruceat.data.TestDataProvider;
 import com.epam.training.alexandru_cruceat.pages.InventoryPage;
 import com.epam.training.alexandru_cruceat.pages.LoginPage;
+import com.epam.training.alexandru_cruceat.pages.LoginResult;
 import com.epam.training.alexandru_cruceat.utils.DriverManager;
+import com.epam.training.alexandru_cruceat.utils.WaitStats;
+import extensions.FailureArtifactsExtension;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.Logger;
@@ -16,6 +20,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("Login Page Tests")
+@ExtendWith(FailureArtifactsExtension.class)
 class LoginTest {
     private static final Logger logger = LoggerFactory.getLogger(LoginTest.class);
     private LoginPage loginPage;
@@ -33,8 +38,8 @@ class LoginTest {
 
     @AfterEach
     void tearDown() {
-        logger.info("Tearing down test");
-        DriverManager.quitDriver();
+        logger.info("Tearing down test, time spent waiting: {} ms", WaitStats.takeCurrentThreadTotal().toMillis());
+        DriverManager.releaseDriver();
     }
 
     @Test
@@ -82,12 +87,12 @@ class LoginTest {
         String validPassword = dataProvider.getStringData("validPassword");
 
         // Login with valid credentials
-        Object page = loginPage.login(validUsername, validPassword);
+        LoginResult result = loginPage.login(validUsername, validPassword);
 
         // Assert successful login
-        assertThat(page).isInstanceOf(InventoryPage.class);
+        assertThat(result).isInstanceOf(LoginResult.Success.class);
 
-        InventoryPage inventoryPage = (InventoryPage) page;
+        InventoryPage inventoryPage = ((LoginResult.Success) result).inventoryPage();
         assertThat(inventoryPage.isLoggedIn()).isTrue();
         assertThat(inventoryPage.getAppLogoText()).isEqualTo(Constants.DASHBOARD_TITLE);
     }
@@ -102,12 +107,12 @@ class LoginTest {
         String validPassword = dataProvider.getStringData("validPassword");
 
         // Login with different valid users
-        Object page = loginPage.login(username, validPassword);
+        LoginResult result = loginPage.login(username, validPassword);
 
         // Assert successful login
-        assertThat(page).isInstanceOf(InventoryPage.class);
+        assertThat(result).isInstanceOf(LoginResult.Success.class);
 
-        InventoryPage inventoryPage = (InventoryPage) page;
+        InventoryPage inventoryPage = ((LoginResult.Success) result).inventoryPage();
         assertThat(inventoryPage.isLoggedIn()).isTrue();
     }
 
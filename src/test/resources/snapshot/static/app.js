@@ -0,0 +1,86 @@
+(function () {
+    var USERNAMES = ['standard_user', 'locked_out_user', 'problem_user',
+        'performance_glitch_user', 'error_user', 'visual_user'];
+    var PASSWORD = 'secret_sauce';
+    var SESSION_COOKIE = 'session-username';
+    var ITEMS = ['Sauce Labs Backpack', 'Sauce Labs Bike Light', 'Sauce Labs Bolt T-Shirt'];
+    var root = document.getElementById('root');
+
+    function sessionUser() {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + SESSION_COOKIE + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function navigate(path) {
+        window.history.pushState({}, '', path);
+        render();
+    }
+
+    function renderLogin(error) {
+        root.innerHTML =
+            '<div class="login_logo">Swag Labs</div>' +
+            '<div class="login_wrapper"><form id="login-form">' +
+            '<input class="form_input" placeholder="Username" type="text" data-test="username" id="user-name" name="user-name">' +
+            '<input class="form_input" placeholder="Password" type="password" data-test="password" id="password" name="password">' +
+            '<div class="error-message-container"></div>' +
+            '<input type="submit" class="submit-button" data-test="login-button" id="login-button" value="Login">' +
+            '</form></div>' +
+            '<div class="login_credentials_wrap">' +
+            '<div class="login_credentials" data-test="login-credentials"><h4>Accepted usernames are:</h4>' +
+            USERNAMES.join('<br>') + '<br></div>' +
+            '<div class="login_password" data-test="login-password"><h4>Password for all users:</h4>' +
+            PASSWORD + '</div></div>';
+        if (error) {
+            showError(error);
+        }
+        document.getElementById('login-form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var username = document.getElementById('user-name').value;
+            var password = document.getElementById('password').value;
+            if (!username) {
+                showError('Username is required');
+            } else if (!password) {
+                showError('Password is required');
+            } else if (USERNAMES.indexOf(username) < 0 || password !== PASSWORD) {
+                showError('Username and password do not match any user in this service');
+            } else if (username === 'locked_out_user') {
+                showError('Sorry, this user has been locked out.');
+            } else {
+                document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(username) + '; path=/';
+                navigate('/inventory.html');
+            }
+        });
+    }
+
+    function showError(message) {
+        document.querySelector('.error-message-container').innerHTML =
+            '<h3 data-test="error">Epic sadface: ' + message + '</h3>';
+    }
+
+    function renderInventory() {
+        root.innerHTML =
+            '<div class="primary_header"><div class="app_logo">Swag Labs</div></div>' +
+            '<div id="inventory_container" class="inventory_container">' +
+            ITEMS.map(function (item) {
+                return '<div class="inventory_item"><div class="inventory_item_name">' + item + '</div></div>';
+            }).join('') +
+            '</div>';
+    }
+
+    function render() {
+        var path = window.location.pathname;
+        if (path === '/inventory.html') {
+            if (sessionUser()) {
+                renderInventory();
+            } else {
+                window.history.replaceState({}, '', '/');
+                renderLogin("You can only access '/inventory.html' when you are logged in.");
+            }
+        } else {
+            renderLogin();
+        }
+    }
+
+    window.addEventListener('popstate', render);
+    render();
+})();